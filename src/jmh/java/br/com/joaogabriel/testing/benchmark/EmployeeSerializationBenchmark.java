@@ -0,0 +1,77 @@
+package br.com.joaogabriel.testing.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.joaogabriel.testing.model.Employee;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Employee employee;
+    private List<Employee> employees;
+    private byte[] employeeJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.employee = employee(0);
+        this.employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            this.employees.add(employee(i));
+        }
+        this.employeeJson = this.objectMapper.writeValueAsBytes(this.employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.employee);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeeList() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.employees);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws Exception {
+        return this.objectMapper.readValue(this.employeeJson, Employee.class);
+    }
+
+    private static Employee employee(int index) {
+        return new Employee.Builder()
+            .id(UUID.randomUUID())
+            .firstName("João Gabriel")
+            .lastName("Carvalho " + index)
+            .email(index + ".joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+    }
+}
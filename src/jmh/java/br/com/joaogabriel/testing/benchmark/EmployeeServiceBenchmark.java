@@ -0,0 +1,94 @@
+package br.com.joaogabriel.testing.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.service.EmployeeService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({ "1000" })
+    private int rows;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private List<UUID> ids;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = EmbeddedApplication.start();
+        this.employeeService = this.context.getBean(EmployeeService.class);
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(employee("seed-" + i));
+        }
+        this.ids = this.employeeService.saveAll(employees).stream().map(result -> result.id()).toList();
+        this.cursor = this.employeeService.findAllAfter("", 20).next();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse findById() {
+        return this.employeeService.findById(this.ids.get((int) (this.sequence.incrementAndGet() % this.ids.size())));
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> findAllOffset() {
+        return this.employeeService.findAll(PageRequest.of(10, 20));
+    }
+
+    @Benchmark
+    public CursorPageResponse<EmployeeResponse> findAllAfterCursor() {
+        return this.employeeService.findAllAfter(this.cursor, 20);
+    }
+
+    @Benchmark
+    public Employee saveThenDelete() {
+        Employee saved = this.employeeService.save(employee("bench-" + this.sequence.incrementAndGet()));
+        this.employeeService.delete(saved.getId());
+        return saved;
+    }
+
+    private static Employee employee(String key) {
+        return new Employee.Builder()
+            .firstName("João Gabriel")
+            .lastName("Carvalho " + key)
+            .email(key + "@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+    }
+}
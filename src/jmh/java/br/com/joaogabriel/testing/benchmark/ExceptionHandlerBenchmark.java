@@ -0,0 +1,61 @@
+package br.com.joaogabriel.testing.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
+import br.com.joaogabriel.testing.handler.TestingGlobalHandler;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private TestingGlobalHandler handler;
+    private ObjectMapper objectMapper;
+    private UUID id;
+
+    @Setup
+    public void setup() {
+        this.handler = new TestingGlobalHandler();
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.id = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public byte[] resourceNotFound() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.handler.handleResourceNotFoundException(
+            new ResourceNotFoundException("Employee not found into database. Id: " + this.id)).getBody());
+    }
+
+    @Benchmark
+    public byte[] resourceAlreadyUsed() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.handler.handleResourceAlreadyUsedException(
+            new ResourceAlreadyUsedException("Email unavailable!")).getBody());
+    }
+
+    @Benchmark
+    public byte[] genericException() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.handler.handleGenericException(
+            new IllegalStateException("Unexpected failure")).getBody());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.joaogabriel.testing.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+final class JvmSampler implements AutoCloseable {
+
+    private static final Path STATUS = Path.of("/proc/self/status");
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final boolean virtualThreads;
+    private final LongSupplier inFlight;
+    private final long baselineMemory;
+    private final AtomicLong peakMemory = new AtomicLong();
+    private final AtomicLong peakThreads = new AtomicLong();
+    private final AtomicLong peakInFlight = new AtomicLong();
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("load-sampler-"));
+
+    JvmSampler(boolean virtualThreads, LongSupplier inFlight) {
+        this.virtualThreads = virtualThreads;
+        this.inFlight = inFlight;
+        this.baselineMemory = memoryUsed();
+        this.scheduler.scheduleAtFixedRate(this::sample, 0, 100, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        this.peakMemory.accumulateAndGet(memoryUsed(), Math::max);
+        this.peakThreads.accumulateAndGet(this.threads.getThreadCount(), Math::max);
+        this.peakInFlight.accumulateAndGet(this.inFlight.getAsLong(), Math::max);
+    }
+
+    // Resident set size covers platform thread stacks as well as the heap; fall back to heap usage
+    // where /proc is not available.
+    private long memoryUsed() {
+        if (Files.isReadable(STATUS)) {
+            try {
+                for (String line : Files.readAllLines(STATUS)) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException exception) {
+                // fall through to heap usage
+            }
+        }
+        return this.memory.getHeapMemoryUsage().getUsed() + this.memory.getNonHeapMemoryUsage().getUsed();
+    }
+
+    void print(PrintStream out) {
+        long inFlight = Math.max(1, this.peakInFlight.get());
+        long growth = Math.max(0, this.peakMemory.get() - this.baselineMemory);
+        out.printf("jvm      virtual threads %s, peak platform threads %d, peak in-flight %d%n",
+            this.virtualThreads ? "on" : "off",
+            this.peakThreads.get(), this.peakInFlight.get());
+        out.printf("jvm      memory baseline %.1f MB, peak %.1f MB, %.1f KB per in-flight request%n",
+            this.baselineMemory / 1048576.0, this.peakMemory.get() / 1048576.0, growth / 1024.0 / inFlight);
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+}
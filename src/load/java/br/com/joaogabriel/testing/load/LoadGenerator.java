@@ -0,0 +1,204 @@
+package br.com.joaogabriel.testing.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.joaogabriel.testing.TestingApplication;
+
+public final class LoadGenerator {
+
+    private static final int SEED_CHUNK_SIZE = 500;
+
+    private final LoadSettings settings;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final boolean virtualThreads;
+    private final LoadOperation[] schedule;
+
+    LoadGenerator(LoadSettings settings, URI baseUri, ObjectMapper objectMapper, boolean virtualThreads) {
+        this.settings = settings;
+        this.virtualThreads = virtualThreads;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.max(1, settings.threads()), new CustomizableThreadFactory("load-http-")))
+            .build();
+        this.schedule = schedule(settings.weights());
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+            "--spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///load?options=DB_CLOSE_DELAY=-1",
+            "--spring.r2dbc.username=sa",
+            "--spring.r2dbc.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0",
+            "--app.reactive.port=0",
+            "--logging.level.root=WARN",
+            "--logging.level.br.com.joaogabriel=WARN"));
+        arguments.addAll(List.of(args));
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestingApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .logStartupInfo(false)
+                .run(arguments.toArray(String[]::new))) {
+            LoadSettings settings = Binder.get(context.getEnvironment())
+                .bindOrCreate("load", LoadSettings.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            exitCode = new LoadGenerator(settings, URI.create("http://localhost:" + port + "/api/v1/employees"),
+                context.getBean(ObjectMapper.class), Threading.VIRTUAL.isActive(context.getEnvironment())).run();
+        }
+        System.exit(exitCode);
+    }
+
+    int run() throws Exception {
+        List<UUID> ids = seed();
+        System.out.println("Seeded " + ids.size() + " employees, warming up for " + this.settings.warmup());
+        try (JvmSampler sampler = new JvmSampler(this.virtualThreads, this.inFlight::get)) {
+            drive(ids, this.settings.warmup());
+            System.out.println("Measuring " + this.settings.rps() + " req/s from " + this.settings.threads()
+                + " threads for " + this.settings.duration());
+            LoadStatistics statistics = drive(ids, this.settings.duration());
+            statistics.print(System.out, this.settings.duration());
+            sampler.print(System.out);
+            return verdict(statistics);
+        }
+    }
+
+    private List<UUID> seed() throws IOException, InterruptedException {
+        List<UUID> ids = new ArrayList<>(this.settings.seedEmployees());
+        for (int start = 0; start < this.settings.seedEmployees(); start += SEED_CHUNK_SIZE) {
+            StringJoiner body = new StringJoiner(",", "[", "]");
+            for (int i = start; i < Math.min(start + SEED_CHUNK_SIZE, this.settings.seedEmployees()); i++) {
+                body.add(LoadOperation.employee("seed-" + i + "@example.com"));
+            }
+            HttpResponse<String> response = this.httpClient.send(
+                LoadOperation.json(URI.create(this.baseUri + "/batch"), "POST", body.toString()).build(),
+                BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode item : this.objectMapper.readTree(response.body())) {
+                if (item.hasNonNull("id")) {
+                    ids.add(UUID.fromString(item.get("id").asText()));
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("load.seed-employees must be positive.");
+        }
+        return List.copyOf(ids);
+    }
+
+    private LoadStatistics drive(List<UUID> ids, Duration duration) throws Exception {
+        LoadStatistics statistics = new LoadStatistics();
+        int threads = Math.max(1, this.settings.threads());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * threads / Math.max(1, this.settings.rps());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("load-client-"));
+        try {
+            List<Future<?>> clients = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                long offset = intervalNanos * i / threads;
+                clients.add(executor.submit(() -> client(ids, statistics, start + offset, intervalNanos, end)));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            long deadline = System.nanoTime() + LoadOperation.TIMEOUT.toNanos();
+            while (this.inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return statistics;
+    }
+
+    // Requests are sent asynchronously so in-flight concurrency is set by the server, not by the number
+    // of client threads. Latency is measured from the time the request was scheduled to go out, so a
+    // stalled server shows up in the percentiles instead of silently lowering the rate.
+    private void client(List<UUID> ids, LoadStatistics statistics, long first, long intervalNanos, long end) {
+        for (long intended = first; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadOperation operation = this.schedule[ThreadLocalRandom.current().nextInt(this.schedule.length)];
+            HttpRequest request = operation.build(this.baseUri, ids, this.sequence.incrementAndGet());
+            long scheduled = intended;
+            this.inFlight.incrementAndGet();
+            this.httpClient.sendAsync(request, BodyHandlers.discarding()).whenComplete((response, error) -> {
+                statistics.record(operation, System.nanoTime() - scheduled, error == null ? response.statusCode() : 0);
+                this.inFlight.decrementAndGet();
+            });
+        }
+    }
+
+    private int verdict(LoadStatistics statistics) {
+        int exitCode = 0;
+        double errorRate = statistics.errorRate();
+        if (errorRate > this.settings.maxErrorRate()) {
+            System.out.printf("FAILED: error rate %.2f%% above load.max-error-rate %.2f%%%n",
+                errorRate * 100, this.settings.maxErrorRate() * 100);
+            exitCode = 1;
+        }
+        if (this.settings.maxP99() != null) {
+            long p99Micros = statistics.total().getValueAtPercentile(99);
+            if (p99Micros > TimeUnit.NANOSECONDS.toMicros(this.settings.maxP99().toNanos())) {
+                System.out.printf("FAILED: p99 %.2f ms above load.max-p99 %s%n", p99Micros / 1000.0, this.settings.maxP99());
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    private static LoadOperation[] schedule(Map<LoadOperation, Integer> weights) {
+        List<LoadOperation> schedule = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(LoadOperation[]::new);
+    }
+}
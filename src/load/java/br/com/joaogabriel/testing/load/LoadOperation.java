@@ -0,0 +1,73 @@
+package br.com.joaogabriel.testing.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum LoadOperation {
+
+    GET {
+        @Override
+        HttpRequest.Builder request(URI baseUri, List<UUID> ids, long sequence) {
+            return HttpRequest.newBuilder(URI.create(baseUri + "/" + randomId(ids))).GET();
+        }
+    },
+    LIST {
+        @Override
+        HttpRequest.Builder request(URI baseUri, List<UUID> ids, long sequence) {
+            return HttpRequest.newBuilder(URI.create(baseUri + "?after=&size=20")).GET();
+        }
+    },
+    LOOKUP {
+        @Override
+        HttpRequest.Builder request(URI baseUri, List<UUID> ids, long sequence) {
+            StringJoiner body = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < LOOKUP_SIZE; i++) {
+                body.add("\"" + randomId(ids) + "\"");
+            }
+            return json(URI.create(baseUri + "/lookup"), "POST", body.toString());
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest.Builder request(URI baseUri, List<UUID> ids, long sequence) {
+            return json(baseUri, "POST", employee("load-" + sequence + "@example.com"));
+        }
+    },
+    PATCH {
+        @Override
+        HttpRequest.Builder request(URI baseUri, List<UUID> ids, long sequence) {
+            return json(URI.create(baseUri + "/" + randomId(ids)), "PATCH",
+                "{\"cellphone\":\"14 9" + String.format("%08d", sequence % 100_000_000) + "\"}");
+        }
+    };
+
+    static final int LOOKUP_SIZE = 50;
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    abstract HttpRequest.Builder request(URI baseUri, List<UUID> ids, long sequence);
+
+    HttpRequest build(URI baseUri, List<UUID> ids, long sequence) {
+        return request(baseUri, ids, sequence).timeout(TIMEOUT).build();
+    }
+
+    static String employee(String email) {
+        return "{\"firstName\":\"Load\",\"lastName\":\"Generator\",\"email\":\"" + email
+            + "\",\"cellphone\":\"14 999999999\"}";
+    }
+
+    static HttpRequest.Builder json(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .method(method, BodyPublishers.ofString(body));
+    }
+
+    private static UUID randomId(List<UUID> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.joaogabriel.testing.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+public record LoadSettings(
+    @DefaultValue("200") int rps,
+    @DefaultValue("4") int threads,
+    @DefaultValue("30s") Duration duration,
+    @DefaultValue("10s") Duration warmup,
+    @DefaultValue("1000") int seedEmployees,
+    @DefaultValue("get:60,list:10,lookup:10,create:15,patch:5") String mix,
+    @DefaultValue("0.01") double maxErrorRate,
+    Duration maxP99
+) {
+
+    public Map<LoadOperation, Integer> weights() {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : this.mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(LoadOperation.valueOf(parts[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix must give a positive weight to at least one operation.");
+        }
+        return weights;
+    }
+}
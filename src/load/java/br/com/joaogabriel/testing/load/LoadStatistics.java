@@ -0,0 +1,90 @@
+package br.com.joaogabriel.testing.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+final class LoadStatistics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<LoadOperation, Stats> stats = new EnumMap<>(LoadOperation.class);
+
+    LoadStatistics() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            this.stats.put(operation, new Stats());
+        }
+    }
+
+    void record(LoadOperation operation, long latencyNanos, int status) {
+        Stats stats = this.stats.get(operation);
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            stats.errors.increment();
+        }
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        this.stats.values().forEach(stats -> total.add(stats.latency));
+        return total;
+    }
+
+    double errorRate() {
+        long requests = total().getTotalCount();
+        long errors = this.stats.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        out.println();
+        out.printf("%-8s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+            "op", "requests", "req/s", "errors", "error%", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<LoadOperation, Stats> entry : this.stats.entrySet()) {
+            Stats stats = entry.getValue();
+            if (stats.latency.getTotalCount() > 0) {
+                printRow(out, entry.getKey().name().toLowerCase(), stats.latency, stats.errors.sum(), elapsed);
+            }
+        }
+        Histogram total = total();
+        long errors = this.stats.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+        printRow(out, "total", total, errors, elapsed);
+        out.println();
+        for (Map.Entry<LoadOperation, Stats> entry : this.stats.entrySet()) {
+            Map<Integer, Long> statuses = new TreeMap<>();
+            entry.getValue().statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            if (!statuses.isEmpty()) {
+                out.printf("%-8s statuses %s%n", entry.getKey().name().toLowerCase(), statuses);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram latency, long errors, Duration elapsed) {
+        long requests = latency.getTotalCount();
+        out.printf("%-8s %10d %10.1f %8d %9.2f%% %10.2f %10.2f %10.2f %10.2f%n",
+            name, requests, requests * 1000.0 / Math.max(1, elapsed.toMillis()), errors,
+            requests == 0 ? 0 : errors * 100.0 / requests,
+            millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+            millis(latency.getValueAtPercentile(99.9)), millis(latency.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Stats {
+
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.joaogabriel.testing.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String EMPLOYEES_CACHE = "employees";
+
+    @Bean
+    public MeterBinder employeesCacheHitRatio(CacheManager cacheManager) {
+        return registry -> {
+            if (cacheManager.getCache(EMPLOYEES_CACHE) instanceof CaffeineCache cache) {
+                Gauge.builder("cache.hit.ratio", cache.getNativeCache(), nativeCache -> nativeCache.stats().hitRate())
+                    .tag("cache", EMPLOYEES_CACHE)
+                    .description("Ratio of cache requests which were hits")
+                    .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.joaogabriel.testing.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import br.com.joaogabriel.testing.limiter.AdaptiveLimiter;
+import br.com.joaogabriel.testing.limiter.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveLimiter readLimiter;
+    private final AdaptiveLimiter writeLimiter;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.readLimiter = limiter(properties.read());
+        this.writeLimiter = limiter(properties.write());
+        meterRegistry.ifAvailable(registry -> {
+            bind(registry, "read", this.readLimiter);
+            bind(registry, "write", this.writeLimiter);
+        });
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(this.readLimiter, this.writeLimiter, this.properties.retryAfter()))
+            .addPathPatterns("/api/v1/employees", "/api/v1/employees/**");
+    }
+
+    private static AdaptiveLimiter limiter(ConcurrencyLimitProperties.Limit limit) {
+        return new AdaptiveLimiter(limit.initialLimit(), limit.minLimit(), limit.maxLimit(), limit.latencyThreshold());
+    }
+
+    private static void bind(MeterRegistry registry, String operation, AdaptiveLimiter limiter) {
+        Gauge.builder("employee.concurrency.limit", limiter, AdaptiveLimiter::getLimit)
+            .tag("operation", operation)
+            .description("Current adaptive concurrency limit")
+            .register(registry);
+        Gauge.builder("employee.concurrency.inflight", limiter, AdaptiveLimiter::getInFlight)
+            .tag("operation", operation)
+            .description("Requests currently holding a concurrency permit")
+            .register(registry);
+        TimeGauge.builder("employee.concurrency.latency", limiter, TimeUnit.NANOSECONDS, AdaptiveLimiter::getSmoothedLatencyNanos)
+            .tag("operation", operation)
+            .description("Smoothed latency observed by the concurrency limiter")
+            .register(registry);
+        FunctionCounter.builder("employee.concurrency.rejected", limiter, AdaptiveLimiter::getRejected)
+            .tag("operation", operation)
+            .description("Requests rejected because the concurrency limit was reached")
+            .register(registry);
+    }
+}
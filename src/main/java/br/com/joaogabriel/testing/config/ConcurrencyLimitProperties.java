@@ -0,0 +1,17 @@
+package br.com.joaogabriel.testing.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.limiter")
+public record ConcurrencyLimitProperties(
+    Limit read,
+    Limit write,
+    @DefaultValue("1s") Duration retryAfter
+) {
+
+    public record Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.joaogabriel.testing.config;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import br.com.joaogabriel.testing.datasource.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder connectionPoolSaturation(ObjectProvider<DataSource> dataSources) {
+        return registry -> {
+            for (HikariDataSource hikari : pools(dataSources)) {
+                Gauge.builder("hikaricp.connections.saturation", hikari, MetricsConfig::saturation)
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .description("Ratio of active plus pending connections to the maximum pool size")
+                    .register(registry);
+            }
+        };
+    }
+
+    private static Set<HikariDataSource> pools(ObjectProvider<DataSource> dataSources) {
+        Set<HikariDataSource> pools = new LinkedHashSet<>();
+        dataSources.orderedStream().forEach(dataSource -> {
+            ReadWriteRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, ReadWriteRoutingDataSource.class);
+            if (routing != null) {
+                routing.getTargets().forEach(target -> addPool(pools, target));
+            } else {
+                addPool(pools, dataSource);
+            }
+        });
+        return pools;
+    }
+
+    private static void addPool(Set<HikariDataSource> pools, DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikari != null) {
+            pools.add(hikari);
+        }
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return Double.NaN;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection()) / hikari.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.joaogabriel.testing.config;
+
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.joaogabriel.testing.controller.impl.ReactiveEmployeeControllerImpl;
+import br.com.joaogabriel.testing.handler.TestingGlobalHandler;
+import br.com.joaogabriel.testing.service.ReactiveEmployeeService;
+import io.micrometer.observation.ObservationRegistry;
+
+// The servlet container parks a thread on every open response, so the reactive API gets its own Reactor Netty
+// listener where a few event loop threads serve any number of slow clients. Spring refuses WebFlux config in a
+// context hierarchy that also holds MVC, so the WebFlux context stands alone and is handed the reactive service
+// and ObjectMapper of the application.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ReactiveWebServer implements SmartLifecycle {
+
+    private final Logger logger = Logger.getLogger(ReactiveWebServer.class.getName());
+    private final ReactiveEmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableEnvironment environment;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private final int port;
+    private volatile AnnotationConfigReactiveWebApplicationContext context;
+    private volatile WebServer webServer;
+
+    public ReactiveWebServer(ReactiveEmployeeService employeeService, ObjectMapper objectMapper,
+            ConfigurableEnvironment environment, ObjectProvider<ObservationRegistry> observationRegistry,
+            @Value("${app.reactive.port:8081}") int port) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.observationRegistry = observationRegistry;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        AnnotationConfigReactiveWebApplicationContext context = new AnnotationConfigReactiveWebApplicationContext();
+        context.getEnvironment().merge(this.environment);
+        context.getBeanFactory().registerSingleton("reactiveEmployeeService", this.employeeService);
+        context.getBeanFactory().registerSingleton("objectMapper", this.objectMapper);
+        context.register(ReactiveWebConfig.class, TestingGlobalHandler.class, ReactiveEmployeeControllerImpl.class);
+        context.refresh();
+        WebHttpHandlerBuilder builder = WebHttpHandlerBuilder.applicationContext(context);
+        this.observationRegistry.ifAvailable(builder::observationRegistry);
+        HttpHandler httpHandler = builder.build();
+        WebServer webServer = new NettyReactiveWebServerFactory(this.port).getWebServer(httpHandler);
+        webServer.start();
+        this.context = context;
+        this.webServer = webServer;
+        logger.info("Reactive employee API listening on port " + webServer.getPort());
+    }
+
+    @Override
+    public void stop() {
+        WebServer webServer = this.webServer;
+        if (webServer != null) {
+            webServer.stop();
+            this.webServer = null;
+        }
+        AnnotationConfigReactiveWebApplicationContext context = this.context;
+        if (context != null) {
+            context.close();
+            this.context = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.webServer != null;
+    }
+
+    public int getPort() {
+        WebServer webServer = this.webServer;
+        return webServer == null ? -1 : webServer.getPort();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.joaogabriel.testing.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.joaogabriel.testing.datasource.ReadYourWritesContext;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> virtualThreadCacheLoading(CacheProperties cacheProperties) {
+        SimpleAsyncTaskExecutor loader = new SimpleAsyncTaskExecutor("employee-cache-load-");
+        loader.setVirtualThreads(true);
+        loader.setTaskDecorator(ReadYourWritesContext::propagate);
+        return cacheManager -> {
+            String spec = cacheProperties.getCaffeine().getSpec();
+            Caffeine<Object, Object> caffeine = StringUtils.hasText(spec) ? Caffeine.from(spec) : Caffeine.newBuilder();
+            cacheManager.setCaffeine(caffeine.executor(loader));
+            cacheManager.setAsyncCacheMode(true);
+        };
+    }
+}
@@ -1,40 +1,110 @@
 package br.com.joaogabriel.testing.controller;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
+
+import br.com.joaogabriel.testing.idempotency.IdempotencyStore;
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.request.EmployeePatchRequest;
+import br.com.joaogabriel.testing.model.response.BatchDeleteResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemResponse;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeLookupResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.model.response.ImportReportResponse;
+import br.com.joaogabriel.testing.transfer.EmployeeFormat;
 
 public interface EmployeeController {
     
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    ResponseEntity<Employee> save(@RequestBody Employee employee);
+    ResponseEntity<Employee> save(@RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+        @RequestBody Employee employee);
+
+    @PutMapping("/by-email/{email}")
+    ResponseEntity<EmployeeResponse> upsertByEmail(@PathVariable("email") String email, @RequestBody Employee employee);
+
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<BatchItemResponse>> saveAll(@RequestBody List<Employee> employees);
+
+    @PostMapping(value = "/import", consumes = { EmployeeFormat.NDJSON_VALUE, EmployeeFormat.CSV_VALUE })
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<ImportReportResponse> importAll(HttpServletRequest request) throws IOException;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<List<Employee>> findAll(Pageable pageable);
+    ResponseEntity<List<EmployeeResponse>> findAll(Pageable pageable);
+
+    @GetMapping(params = "after")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<CursorPageResponse<EmployeeResponse>> findAllAfter(@RequestParam("after") String after,
+        @RequestParam(name = "size", defaultValue = "20") Integer size);
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<EmployeeResponse>> search(@RequestParam(name = "firstName", required = false) String firstName,
+        @RequestParam("lastName") String lastName,
+        @RequestParam(name = "prefix", defaultValue = "false") Boolean prefix, Pageable pageable);
+
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<EmployeeSuggestionResponse>> suggest(@RequestParam("q") String query,
+        @RequestParam(name = "limit", defaultValue = "10") Integer limit);
+
+    @GetMapping(value = "/export", produces = EmployeeFormat.NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<StreamingResponseBody> exportNdjson();
+
+    @GetMapping(value = "/export", produces = EmployeeFormat.CSV_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<StreamingResponseBody> exportCsv();
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter changes(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId);
+
+    @PostMapping("/lookup")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<EmployeeLookupResponse> lookup(@RequestBody List<UUID> ids);
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<Employee> findById(@PathVariable("id") UUID id);
+    ResponseEntity<EmployeeResponse> findById(@PathVariable("id") UUID id);
 
     @PutMapping
     @ResponseStatus(HttpStatus.NO_CONTENT)
     ResponseEntity<Void> update(@RequestBody Employee employee);
 
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<Employee> patch(@PathVariable("id") UUID id, @RequestBody EmployeePatchRequest request);
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     ResponseEntity<Void> delete(@PathVariable("id") UUID id);
+
+    @DeleteMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<BatchDeleteResponse> deleteAll(@RequestBody List<UUID> ids);
 }
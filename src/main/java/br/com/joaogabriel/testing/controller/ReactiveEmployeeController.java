@@ -0,0 +1,44 @@
+package br.com.joaogabriel.testing.controller;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.transfer.EmployeeFormat;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeController {
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    Mono<ResponseEntity<EmployeeResponse>> save(@RequestBody Employee employee);
+
+    @GetMapping(produces = { EmployeeFormat.NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    @ResponseStatus(HttpStatus.OK)
+    Flux<EmployeeResponse> findAll(Pageable pageable);
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    Mono<ResponseEntity<EmployeeResponse>> findById(@PathVariable("id") UUID id);
+
+    @PutMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    Mono<ResponseEntity<Void>> update(@RequestBody Employee employee);
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    Mono<ResponseEntity<Void>> delete(@PathVariable("id") UUID id);
+}
@@ -1,43 +1,154 @@
 package br.com.joaogabriel.testing.controller.impl;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import br.com.joaogabriel.testing.controller.EmployeeController;
+import br.com.joaogabriel.testing.event.EmployeeChangeFeed;
+import br.com.joaogabriel.testing.idempotency.IdempotencyStore;
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.request.EmployeePatchRequest;
+import br.com.joaogabriel.testing.model.response.BatchDeleteResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemResponse;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeLookupResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.model.response.ImportReportResponse;
 import br.com.joaogabriel.testing.service.EmployeeService;
+import br.com.joaogabriel.testing.transfer.EmployeeFormat;
+import br.com.joaogabriel.testing.transfer.EmployeeReader;
+import br.com.joaogabriel.testing.transfer.EmployeeWriter;
 
 @RestController
 @RequestMapping("/api/v1/employees")
 public class EmployeeControllerImpl implements EmployeeController{
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+    private final EmployeeChangeFeed changeFeed;
 
-    public EmployeeControllerImpl(EmployeeService employeeService) {
+    public EmployeeControllerImpl(EmployeeService employeeService, ObjectMapper objectMapper,
+            IdempotencyStore idempotencyStore, EmployeeChangeFeed changeFeed) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.idempotencyStore = idempotencyStore;
+        this.changeFeed = changeFeed;
+    }
+
+    @Override
+    public ResponseEntity<Employee> save(String idempotencyKey, Employee employee) {
+        List<String> fingerprint = Arrays.asList(employee.getFirstName(), employee.getLastName(),
+            employee.getEmail(), employee.getCellphone());
+        return this.idempotencyStore.execute(idempotencyKey, fingerprint, () -> ResponseEntity.status(HttpStatus.CREATED)
+            .body(this.employeeService.save(employee)));
+    }
+
+    @Override
+    public ResponseEntity<EmployeeResponse> upsertByEmail(String email, Employee employee) {
+        EmployeeResponse upserted = this.employeeService.upsertByEmail(email, employee);
+        return ResponseEntity.status(upserted.version() == 0 ? HttpStatus.CREATED : HttpStatus.OK)
+            .eTag(EmployeeETags.of(upserted))
+            .body(upserted);
+    }
+
+    @Override
+    public ResponseEntity<List<BatchItemResponse>> saveAll(List<Employee> employees) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(this.employeeService.saveAll(employees));
+    }
+
+    @Override
+    public ResponseEntity<ImportReportResponse> importAll(HttpServletRequest request) throws IOException {
+        EmployeeReader reader = new EmployeeReader(EmployeeFormat.fromContentType(request.getContentType()),
+            this.objectMapper, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(this.employeeService.importAll(reader));
+    }
+
+    @Override
+    public ResponseEntity<List<EmployeeResponse>> findAll(Pageable pageable) {
+        List<EmployeeResponse> employees = this.employeeService.findAll(pageable);
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(EmployeeETags.of(employees))
+            .body(employees);
+    }
+
+    @Override
+    public ResponseEntity<CursorPageResponse<EmployeeResponse>> findAllAfter(String after, Integer size) {
+        CursorPageResponse<EmployeeResponse> page = this.employeeService.findAllAfter(after, size);
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(EmployeeETags.of(page))
+            .body(page);
     }
 
     @Override
-    public ResponseEntity<Employee> save(Employee employee) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(this.employeeService.save(employee));
+    public ResponseEntity<List<EmployeeResponse>> search(String firstName, String lastName, Boolean prefix, Pageable pageable) {
+        List<EmployeeResponse> employees = this.employeeService.search(firstName, lastName, prefix, pageable);
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(EmployeeETags.of(employees))
+            .body(employees);
+    }
+
+    @Override
+    public ResponseEntity<List<EmployeeSuggestionResponse>> suggest(String query, Integer limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(this.employeeService.suggest(query, limit));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportNdjson() {
+        return export(EmployeeFormat.NDJSON);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCsv() {
+        return export(EmployeeFormat.CSV);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(EmployeeFormat format) {
+        StreamingResponseBody body = outputStream -> {
+            try (EmployeeWriter writer = new EmployeeWriter(format, this.objectMapper, outputStream)) {
+                this.employeeService.exportAll(writer::write);
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(new MediaType(MediaType.parseMediaType(format.getMediaType()), StandardCharsets.UTF_8))
+            .body(body);
+    }
+
+    @Override
+    public SseEmitter changes(String lastEventId) {
+        return this.changeFeed.subscribe(lastEventId);
     }
 
     @Override
-    public ResponseEntity<List<Employee>> findAll(Pageable pageable) {
+    public ResponseEntity<EmployeeLookupResponse> lookup(List<UUID> ids) {
         return ResponseEntity.status(HttpStatus.OK)
-            .body(this.employeeService.findAll(pageable));
+            .body(this.employeeService.findAllById(ids));
     }
 
     @Override
-    public ResponseEntity<Employee> findById(UUID id) {
+    public ResponseEntity<EmployeeResponse> findById(UUID id) {
+        EmployeeResponse employee = this.employeeService.findById(id);
         return ResponseEntity.status(HttpStatus.OK)
-            .body(this.employeeService.findById(id));
+            .eTag(EmployeeETags.of(employee))
+            .body(employee);
     }
 
     @Override
@@ -46,9 +157,23 @@ public class EmployeeControllerImpl implements EmployeeController{
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    public ResponseEntity<Employee> patch(UUID id, EmployeePatchRequest request) {
+        Employee employee = this.employeeService.patch(id, request);
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(EmployeeETags.of(employee))
+            .body(employee);
+    }
+
     @Override
     public ResponseEntity<Void> delete(UUID id) {
         this.employeeService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Override
+    public ResponseEntity<BatchDeleteResponse> deleteAll(List<UUID> ids) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(this.employeeService.deleteAll(ids));
+    }
 }
@@ -0,0 +1,70 @@
+package br.com.joaogabriel.testing.controller.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+
+final class EmployeeETags {
+
+    private EmployeeETags() {}
+
+    static String of(Employee employee) {
+        return "\"" + employee.getId() + "-" + employee.getVersion() + "\"";
+    }
+
+    static String of(EmployeeResponse employee) {
+        return "\"" + employee.id() + "-" + employee.version() + "\"";
+    }
+
+    static String of(Collection<EmployeeResponse> employees) {
+        MessageDigest digest = sha256();
+        update(digest, employees);
+        return format(digest);
+    }
+
+    // The cursor and size are part of the body, so a last page that gains a next cursor must not answer 304.
+    static String of(CursorPageResponse<EmployeeResponse> page) {
+        MessageDigest digest = sha256();
+        update(digest, page.content());
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(page.size() == null ? -1 : page.size()).array());
+        if (page.next() != null) {
+            digest.update((byte) 1);
+            digest.update(page.next().getBytes(StandardCharsets.UTF_8));
+        } else {
+            digest.update((byte) 0);
+        }
+        return format(digest);
+    }
+
+    private static void update(MessageDigest digest, Collection<EmployeeResponse> employees) {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 3);
+        for (EmployeeResponse employee : employees) {
+            UUID id = employee.id();
+            buffer.clear();
+            buffer.putLong(id == null ? 0L : id.getMostSignificantBits())
+                .putLong(id == null ? 0L : id.getLeastSignificantBits())
+                .putLong(employee.version());
+            digest.update(buffer.array());
+        }
+    }
+
+    private static String format(MessageDigest digest) {
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.joaogabriel.testing.controller.impl;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.joaogabriel.testing.controller.ReactiveEmployeeController;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.service.ReactiveEmployeeService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/reactive/employees")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeControllerImpl implements ReactiveEmployeeController {
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeControllerImpl(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmployeeResponse>> save(Employee employee) {
+        return this.employeeService.save(employee)
+            .map(saved -> ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(EmployeeETags.of(saved))
+                .body(saved));
+    }
+
+    @Override
+    public Flux<EmployeeResponse> findAll(Pageable pageable) {
+        return this.employeeService.findAll(pageable);
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmployeeResponse>> findById(UUID id) {
+        return this.employeeService.findById(id)
+            .map(employee -> ResponseEntity.status(HttpStatus.OK)
+                .eTag(EmployeeETags.of(employee))
+                .body(employee));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> update(Employee employee) {
+        return this.employeeService.update(employee)
+            .map(updated -> ResponseEntity.noContent().build());
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> delete(UUID id) {
+        return this.employeeService.delete(id)
+            .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+}
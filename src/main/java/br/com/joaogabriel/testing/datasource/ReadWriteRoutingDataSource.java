@@ -0,0 +1,67 @@
+package br.com.joaogabriel.testing.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public List<DataSource> getTargets() {
+        List<DataSource> targets = new ArrayList<>(this.replicas.size() + 1);
+        targets.add(this.primary);
+        targets.addAll(this.replicas);
+        return targets;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesContext.markWritten();
+            return PRIMARY;
+        }
+        if (this.replicas.isEmpty() || ReadYourWritesContext.isSticky()) {
+            return PRIMARY;
+        }
+        return Math.floorMod(this.next.getAndIncrement(), this.replicas.size());
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource target : getTargets()) {
+            if (target instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
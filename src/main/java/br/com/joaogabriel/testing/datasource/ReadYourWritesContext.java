@@ -0,0 +1,56 @@
+package br.com.joaogabriel.testing.datasource;
+
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {}
+
+    public static void begin(long stickyUntilMillis, Runnable onFirstWrite) {
+        SCOPE.set(new Scope(stickyUntilMillis, onFirstWrite));
+    }
+
+    public static void end() {
+        SCOPE.remove();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            SCOPE.set(scope);
+            try {
+                task.run();
+            } finally {
+                SCOPE.remove();
+            }
+        };
+    }
+
+    public static boolean isSticky() {
+        Scope scope = SCOPE.get();
+        return scope != null && (scope.written || System.currentTimeMillis() < scope.stickyUntilMillis);
+    }
+
+    public static void markWritten() {
+        Scope scope = SCOPE.get();
+        if (scope != null && !scope.written) {
+            scope.written = true;
+            scope.onFirstWrite.run();
+        }
+    }
+
+    private static final class Scope {
+
+        private final long stickyUntilMillis;
+        private final Runnable onFirstWrite;
+        private volatile boolean written;
+
+        private Scope(long stickyUntilMillis, Runnable onFirstWrite) {
+            this.stickyUntilMillis = stickyUntilMillis;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
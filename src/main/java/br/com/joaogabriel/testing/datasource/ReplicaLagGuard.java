@@ -0,0 +1,42 @@
+package br.com.joaogabriel.testing.datasource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+
+// Remembers employees written within the read-your-writes window. A replica may still serve the old row for
+// them, so such loads must not be put in the shared cache where sticky readers would find them.
+@Component
+public class ReplicaLagGuard {
+
+    private final boolean enabled;
+    private final Cache<UUID, Boolean> recentWrites;
+
+    public ReplicaLagGuard(@Value("${app.datasource.replicas[0].url:}") String replicaUrl,
+            @Value("${app.datasource.read-your-writes-window:5s}") Duration window) {
+        this.enabled = !replicaUrl.isBlank();
+        this.recentWrites = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .build();
+    }
+
+    // Recorded when the change is published, before commit, so a load racing the commit is covered too.
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (this.enabled && event.id() != null) {
+            this.recentWrites.put(event.id(), Boolean.TRUE);
+        }
+    }
+
+    public boolean isRecentlyWritten(UUID id) {
+        return this.enabled && this.recentWrites.getIfPresent(id) != null;
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.joaogabriel.testing.email;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class EmailBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+
+    public EmailBloomFilter(long capacity, double falsePositiveProbability) {
+        long expected = Math.max(1, capacity);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * 64;
+        this.hashes = Math.max(1, (int) Math.round((double) this.bits / expected * Math.log(2)));
+        this.capacity = expected;
+    }
+
+    public void add(String email) {
+        long hash = hash(email);
+        long first = mix(hash);
+        long second = mix(hash ^ FNV_OFFSET) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = Math.floorMod(first + i * second, this.bits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = this.words.get(index);
+            while ((word & mask) == 0 && !this.words.weakCompareAndSetVolatile(index, word, word | mask)) {
+                word = this.words.get(index);
+            }
+        }
+    }
+
+    public boolean mightContain(String email) {
+        long hash = hash(email);
+        long first = mix(hash);
+        long second = mix(hash ^ FNV_OFFSET) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = Math.floorMod(first + i * second, this.bits);
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long capacity() {
+        return this.capacity;
+    }
+
+    public long sizeInBytes() {
+        return (long) this.words.length() * Long.BYTES;
+    }
+
+    // Probability that an absent email is reported as present, from the share of bits already set.
+    public double expectedFalsePositiveProbability() {
+        long set = 0;
+        for (int i = 0; i < this.words.length(); i++) {
+            set += Long.bitCount(this.words.get(i));
+        }
+        return Math.pow((double) set / this.bits, this.hashes);
+    }
+
+    private static long hash(String email) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < email.length(); i++) {
+            hash = (hash ^ email.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
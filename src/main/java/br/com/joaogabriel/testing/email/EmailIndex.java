@@ -0,0 +1,195 @@
+package br.com.joaogabriel.testing.email;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.joaogabriel.testing.event.EmployeeChangeType;
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class EmailIndex {
+
+    private final Logger logger = Logger.getLogger(EmailIndex.class.getName());
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final ExecutorService rebuilder;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final Counter definiteMisses;
+    private final Counter hits;
+    private final Counter falsePositives;
+    private final Timer rebuildTimer;
+    private volatile EmailBloomFilter filter;
+    private volatile EmailBloomFilter building;
+
+    public EmailIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+            @Value("${app.email-index.expected-insertions:100000}") long expectedInsertions,
+            @Value("${app.email-index.false-positive-probability:0.01}") double falsePositiveProbability,
+            MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        // Read-write on purpose: a lagging replica would leave fresh emails out of the rebuilt filter.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.rebuilder = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("email-index-"));
+        this.definiteMisses = lookups(meterRegistry, "definite_miss");
+        this.hits = lookups(meterRegistry, "hit");
+        this.falsePositives = lookups(meterRegistry, "false_positive");
+        this.rebuildTimer = Timer.builder("employee.email.index.rebuild")
+            .description("Time to rebuild the email index from the database")
+            .register(meterRegistry);
+        Gauge.builder("employee.email.index.memory", this, index -> index.filter == null ? 0 : index.filter.sizeInBytes())
+            .description("Memory held by the email index bit set")
+            .baseUnit(BaseUnits.BYTES)
+            .register(meterRegistry);
+        Gauge.builder("employee.email.index.entries", this.entries, AtomicLong::get)
+            .description("Emails added to the email index since the last rebuild, including the rebuild itself")
+            .register(meterRegistry);
+        Gauge.builder("employee.email.index.false.positive.rate", this, EmailIndex::observedFalsePositiveRate)
+            .description("Share of absent emails the index could not rule out")
+            .register(meterRegistry);
+        Gauge.builder("employee.email.index.expected.false.positive.rate", this,
+                index -> index.filter == null ? 1 : index.filter.expectedFalsePositiveProbability())
+            .description("False positive probability implied by the bits currently set")
+            .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.email.index.lookups")
+            .description("Email availability checks answered by the email index")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        scheduleRebuild();
+    }
+
+    public boolean mightContain(String email) {
+        EmailBloomFilter current = this.filter;
+        if (current == null || current.mightContain(email)) {
+            return true;
+        }
+        this.definiteMisses.increment();
+        return false;
+    }
+
+    public void recordLookup(boolean found) {
+        (found ? this.hits : this.falsePositives).increment();
+    }
+
+    // Added before commit so a concurrent check never misses an email that is about to exist, and again
+    // after commit so a rebuild whose snapshot started in between still ends up with it.
+    @EventListener
+    public void onEmployeeChanging(EmployeeChangedEvent event) {
+        String email = emailOf(event);
+        if (email != null) {
+            add(email);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        String email = emailOf(event);
+        if (email != null) {
+            add(email);
+            this.entries.incrementAndGet();
+        }
+        if (event.type() != EmployeeChangeType.CREATED) {
+            this.stale.incrementAndGet();
+        }
+        EmailBloomFilter current = this.filter;
+        if (current != null && (this.entries.get() > current.capacity() || this.stale.get() > current.capacity() / 2)) {
+            scheduleRebuild();
+        }
+    }
+
+    private static String emailOf(EmployeeChangedEvent event) {
+        return event.type() == EmployeeChangeType.DELETED || event.employee() == null ? null : event.employee().getEmail();
+    }
+
+    private void add(String email) {
+        EmailBloomFilter next = this.building;
+        if (next != null) {
+            next.add(email);
+        }
+        EmailBloomFilter current = this.filter;
+        if (current != null) {
+            current.add(email);
+        }
+    }
+
+    public void scheduleRebuild() {
+        if (this.rebuilding.compareAndSet(false, true)) {
+            this.rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException exception) {
+                    logger.log(Level.WARNING, "Email index rebuild failed; checks fall through to the database.", exception);
+                } finally {
+                    this.building = null;
+                    this.rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    void rebuild() {
+        long startedAt = System.nanoTime();
+        EmailBloomFilter next = new EmailBloomFilter(Math.max(this.expectedInsertions, 2 * this.entries.get()),
+            this.falsePositiveProbability);
+        this.building = next;
+        Long count = this.transactionTemplate.execute(status -> {
+            try (Stream<String> emails = this.employeeRepository.streamAllEmails()) {
+                return emails.mapToLong(email -> {
+                    next.add(email);
+                    return 1;
+                }).sum();
+            }
+        });
+        this.entries.set(count == null ? 0 : count);
+        this.stale.set(0);
+        this.filter = next;
+        this.building = null;
+        long elapsed = System.nanoTime() - startedAt;
+        this.rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Email index rebuilt with " + count + " emails in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms.");
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = this.falsePositives.count();
+        double absent = falsePositives + this.definiteMisses.count();
+        return absent == 0 ? 0 : falsePositives / absent;
+    }
+
+    @PreDestroy
+    public void close() {
+        this.rebuilder.shutdownNow();
+    }
+}
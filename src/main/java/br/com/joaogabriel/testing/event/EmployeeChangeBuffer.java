@@ -0,0 +1,46 @@
+package br.com.joaogabriel.testing.event;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.model.response.EmployeeChangeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+
+public class EmployeeChangeBuffer {
+
+    private final EmployeeChangeResponse[] ring;
+    private long next = 1;
+
+    public EmployeeChangeBuffer(int capacity) {
+        this.ring = new EmployeeChangeResponse[capacity];
+    }
+
+    public synchronized EmployeeChangeResponse append(EmployeeChangeType type, UUID id, EmployeeResponse employee) {
+        EmployeeChangeResponse change = new EmployeeChangeResponse(this.next, type, id, employee, Instant.now());
+        this.ring[(int) (this.next % this.ring.length)] = change;
+        this.next++;
+        return change;
+    }
+
+    public synchronized long head() {
+        return this.next;
+    }
+
+    public synchronized long oldest() {
+        return Math.max(1, this.next - this.ring.length);
+    }
+
+    public synchronized List<EmployeeChangeResponse> readFrom(long sequence, int max) {
+        if (sequence < oldest()) {
+            return null;
+        }
+        int count = (int) Math.max(0, Math.min(max, this.next - sequence));
+        List<EmployeeChangeResponse> changes = new ArrayList<>(count);
+        for (long current = sequence; current < sequence + count; current++) {
+            changes.add(this.ring[(int) (current % this.ring.length)]);
+        }
+        return changes;
+    }
+}
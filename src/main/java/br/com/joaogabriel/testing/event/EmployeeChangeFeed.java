@@ -0,0 +1,163 @@
+package br.com.joaogabriel.testing.event;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.joaogabriel.testing.model.response.EmployeeChangeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class EmployeeChangeFeed {
+
+    private static final int MAX_BATCH = 100;
+    private static final char EPOCH_SEPARATOR = '-';
+
+    private final Logger logger = Logger.getLogger(EmployeeChangeFeed.class.getName());
+    private final EmployeeChangeBuffer buffer;
+    // Sequences restart on every boot and differ between instances, so event ids carry this boot's epoch and
+    // ids minted elsewhere are never mistaken for a position in this buffer.
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final Counter dropped;
+
+    public EmployeeChangeFeed(@Value("${app.changes.buffer-size:10000}") int bufferSize,
+            @Value("${app.changes.dispatch-threads:4}") int dispatchThreads, MeterRegistry meterRegistry) {
+        this.buffer = new EmployeeChangeBuffer(bufferSize);
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("employee-changes-"));
+        this.dropped = Counter.builder("employee.changes.dropped")
+            .description("Change feed subscribers dropped because they fell behind the buffer")
+            .register(meterRegistry);
+        Gauge.builder("employee.changes.subscribers", this.subscribers, Set::size)
+            .description("Open change feed subscriptions")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeResponse employee = event.employee() == null ? null : EmployeeResponse.of(event.employee());
+        this.buffer.append(event.type(), event.id(), employee);
+        this.subscribers.forEach(this::schedule);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter());
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        long cursor = lastEventId == null ? this.buffer.head() : resumeCursor(lastEventId);
+        if (cursor < 0) {
+            logger.info("Change feed cannot resume from event id: " + lastEventId);
+            reset(emitter);
+            return emitter;
+        }
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+        emitter.onError(exception -> this.subscribers.remove(subscriber));
+        this.subscribers.add(subscriber);
+        logger.info("Change feed subscribed from sequence: " + subscriber.cursor);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    private long resumeCursor(String lastEventId) {
+        int separator = lastEventId.lastIndexOf(EPOCH_SEPARATOR);
+        if (separator < 0 || !this.epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            long cursor = Long.parseLong(lastEventId.substring(separator + 1)) + 1;
+            return cursor > this.buffer.head() ? -1 : cursor;
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.dispatcher.shutdownNow();
+        this.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        this.subscribers.clear();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            this.dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            List<EmployeeChangeResponse> changes;
+            while ((changes = this.buffer.readFrom(subscriber.cursor, MAX_BATCH)) != null && !changes.isEmpty()) {
+                for (EmployeeChangeResponse change : changes) {
+                    subscriber.emitter.send(SseEmitter.event()
+                        .id(this.epoch + EPOCH_SEPARATOR + change.sequence())
+                        .name(change.type().name())
+                        .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.cursor = change.sequence() + 1;
+                }
+            }
+            if (changes == null) {
+                drop(subscriber);
+                return;
+            }
+        } catch (IOException | IllegalStateException exception) {
+            this.subscribers.remove(subscriber);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (subscriber.cursor < this.buffer.head() && this.subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        logger.info("Dropping change feed subscriber behind the buffer at sequence: " + subscriber.cursor);
+        this.subscribers.remove(subscriber);
+        this.dropped.increment();
+        reset(subscriber.emitter);
+    }
+
+    private static void reset(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name("RESET")
+                .data("Change feed cannot continue from the last event, resynchronize from the employee listing."));
+            emitter.complete();
+        } catch (IOException | IllegalStateException exception) {
+            emitter.completeWithError(exception);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
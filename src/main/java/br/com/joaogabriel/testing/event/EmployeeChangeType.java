@@ -0,0 +1,7 @@
+package br.com.joaogabriel.testing.event;
+
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,20 @@
+package br.com.joaogabriel.testing.event;
+
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.model.Employee;
+
+public record EmployeeChangedEvent(EmployeeChangeType type, UUID id, Employee employee) {
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(EmployeeChangeType.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent updated(Employee employee) {
+        return new EmployeeChangedEvent(EmployeeChangeType.UPDATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent deleted(UUID id) {
+        return new EmployeeChangedEvent(EmployeeChangeType.DELETED, id, null);
+    }
+}
@@ -2,13 +2,18 @@ package br.com.joaogabriel.testing.handler;
 
 import java.time.LocalDateTime;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
 import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
 import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
+import br.com.joaogabriel.testing.exception.ServiceOverloadedException;
 import br.com.joaogabriel.testing.exception.response.ExceptionResponse;
 
 @ControllerAdvice
@@ -35,5 +40,35 @@ public class TestingGlobalHandler {
          return new ResponseEntity<ExceptionResponse>(exceptionResponse, HttpStatus.BAD_REQUEST);
 
     }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidRequestException(InvalidRequestException exception) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse("Bad Request",
+         exception.getMessage(), HttpStatus.BAD_REQUEST.value(), LocalDateTime.now());
+         return new ResponseEntity<ExceptionResponse>(exceptionResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<ExceptionResponse> handleResourceConflictException(ResourceConflictException exception) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse("Conflict",
+         exception.getMessage(), HttpStatus.CONFLICT.value(), LocalDateTime.now());
+         return new ResponseEntity<ExceptionResponse>(exceptionResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse("Conflict",
+         "Employee was modified by another request.", HttpStatus.CONFLICT.value(), LocalDateTime.now());
+         return new ResponseEntity<ExceptionResponse>(exceptionResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceOverloadedException(ServiceOverloadedException exception) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse("Service Unavailable",
+         exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), LocalDateTime.now());
+         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+            .body(exceptionResponse);
+    }
     
 }
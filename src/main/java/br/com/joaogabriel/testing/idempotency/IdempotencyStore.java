@@ -0,0 +1,100 @@
+package br.com.joaogabriel.testing.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
+
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final Logger logger = Logger.getLogger(IdempotencyStore.class.getName());
+    private final Cache<String, Entry> responses;
+    private final Duration inFlightWait;
+
+    public IdempotencyStore(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+            @Value("${app.idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${app.idempotency.in-flight-wait:2s}") Duration inFlightWait) {
+        this.inFlightWait = inFlightWait;
+        this.responses = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public <T> ResponseEntity<T> execute(String key, Object fingerprint, Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        Entry entry = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = this.responses.asMap().putIfAbsent(key, entry);
+        if (existing == null) {
+            return run(key, entry, action);
+        }
+        if (!existing.fingerprint().equals(fingerprint)) {
+            throw new ResourceConflictException("Idempotency-Key was already used with a different request: " + key);
+        }
+        logger.info("Replaying response for Idempotency-Key: " + key);
+        return replay(await(key, existing));
+    }
+
+    private <T> ResponseEntity<T> run(String key, Entry entry, Supplier<ResponseEntity<T>> action) {
+        try {
+            ResponseEntity<T> response = action.get();
+            entry.response().complete(response);
+            return response;
+        } catch (RuntimeException exception) {
+            this.responses.asMap().remove(key, entry);
+            entry.response().completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    // Retries tend to arrive exactly when the first attempt is slow, so a duplicate waits only briefly instead of
+    // holding a request thread and a write permit for as long as the original takes.
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> await(String key, Entry entry) {
+        try {
+            return (ResponseEntity<T>) entry.response().get(this.inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (TimeoutException exception) {
+            throw inProgress(key);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw inProgress(key);
+        }
+    }
+
+    private static ResourceConflictException inProgress(String key) {
+        return new ResourceConflictException("A request with this Idempotency-Key is still in progress, retry later: " + key);
+    }
+
+    private static <T> ResponseEntity<T> replay(ResponseEntity<T> response) {
+        return ResponseEntity.status(response.getStatusCode())
+            .headers(response.getHeaders())
+            .header(REPLAYED_HEADER, "true")
+            .body(response.getBody());
+    }
+
+    private record Entry(Object fingerprint, CompletableFuture<ResponseEntity<?>> response) {
+    }
+}
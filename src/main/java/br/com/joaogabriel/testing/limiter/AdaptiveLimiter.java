@@ -0,0 +1,73 @@
+package br.com.joaogabriel.testing.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AdaptiveLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+    private volatile double smoothedLatencyNanos;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= getLimit()) {
+                this.rejected.incrementAndGet();
+                return false;
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean dropped) {
+        int current = this.inFlight.getAndDecrement();
+        synchronized (this) {
+            this.smoothedLatencyNanos = this.smoothedLatencyNanos == 0
+                ? latencyNanos
+                : this.smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - this.smoothedLatencyNanos);
+            if (dropped || latencyNanos > this.latencyThresholdNanos) {
+                this.limit = Math.max(this.minLimit, this.limit * BACKOFF_RATIO);
+            } else if (current * 2 >= this.limit) {
+                this.limit = Math.min(this.maxLimit, this.limit + 1);
+            }
+        }
+    }
+
+    public void releaseWithoutSample() {
+        this.inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) this.limit;
+    }
+
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    public long getRejected() {
+        return this.rejected.get();
+    }
+
+    public double getSmoothedLatencyNanos() {
+        return this.smoothedLatencyNanos;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.joaogabriel.testing.limiter;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import br.com.joaogabriel.testing.exception.ServiceOverloadedException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final AdaptiveLimiter readLimiter;
+    private final AdaptiveLimiter writeLimiter;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitInterceptor(AdaptiveLimiter readLimiter, AdaptiveLimiter writeLimiter, Duration retryAfter) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        AdaptiveLimiter limiter = isRead(request) ? this.readLimiter : this.writeLimiter;
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException("Too many concurrent requests, try again later.", this.retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.limiter().releaseWithoutSample();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            // The global handler turns failures into responses before this runs, so the status is what tells. The
+            // limiter's own 503 is raised before a permit exists and never gets here.
+            boolean dropped = exception != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            permit.limiter().release(System.nanoTime() - permit.startedAt(), dropped);
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+
+    private record Permit(AdaptiveLimiter limiter, long startedAt) {
+    }
+}
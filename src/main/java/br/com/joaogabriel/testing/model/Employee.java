@@ -3,18 +3,37 @@ package br.com.joaogabriel.testing.model;
 import java.io.Serializable;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import br.com.joaogabriel.testing.model.id.TimeOrderedUuid;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "tb_employee")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
+@Table(name = "tb_employee", uniqueConstraints = {
+    @UniqueConstraint(name = Employee.EMAIL_CONSTRAINT, columnNames = "email")
+}, indexes = {
+    @Index(name = "idx_employee_name_keyset", columnList = "last_name, first_name, id"),
+    @Index(name = "idx_employee_name_search", columnList = "search_last_name, search_first_name")
+})
 public class Employee implements Serializable {
 
-    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    public static final String CACHE_REGION = "employee";
+    public static final String EMAIL_QUERY_CACHE_REGION = "employee-by-email";
+    public static final String EMAIL_CONSTRAINT = "uk_employee_email";
+
+    @Id @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, length = 100)
@@ -23,25 +42,36 @@ public class Employee implements Serializable {
     @Column(nullable = false, length = 100)
     private String lastName; 
 
-    @Column(nullable = false, length = 100, unique = true)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Column(nullable = false)
     private String cellphone;
 
+    @Version
+    private long version;
+
+    @JsonIgnore
+    @Column(nullable = false, length = 100)
+    private String searchFirstName;
+
+    @JsonIgnore
+    @Column(nullable = false, length = 100)
+    private String searchLastName;
+
     public Employee() {}
 
     public Employee(UUID id, String firstName, String lastName, String email, String cellphone) {
         this.id = id;
-        this.firstName = firstName;
-        this.lastName = lastName;
+        setFirstName(firstName);
+        setLastName(lastName);
         this.email = email;
         this.cellphone = cellphone;
     }
 
     public Employee(String firstName, String lastName, String email, String cellphone) {
-        this.firstName = firstName;
-        this.lastName = lastName;
+        setFirstName(firstName);
+        setLastName(lastName);
         this.email = email;
         this.cellphone = cellphone;
     }
@@ -60,6 +90,7 @@ public class Employee implements Serializable {
 
     public void setFirstName(String firstName) {
         this.firstName = firstName;
+        this.searchFirstName = SearchKeys.normalize(firstName);
     }
 
     public String getLastName() {
@@ -68,6 +99,7 @@ public class Employee implements Serializable {
 
     public void setLastName(String lastName) {
         this.lastName = lastName;
+        this.searchLastName = SearchKeys.normalize(lastName);
     }
 
     public String getEmail() {
@@ -86,6 +118,24 @@ public class Employee implements Serializable {
         this.cellphone = cellphone;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @JsonIgnore
+    public String getSearchFirstName() {
+        return searchFirstName;
+    }
+
+    @JsonIgnore
+    public String getSearchLastName() {
+        return searchLastName;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -139,6 +189,11 @@ public class Employee implements Serializable {
             return this;
         }
 
+        public Builder version(long version) {
+            this.employee.setVersion(version);
+            return this;
+        }
+
         public Employee build() {
             return this.employee;
         }
@@ -0,0 +1,35 @@
+package br.com.joaogabriel.testing.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+
+public record EmployeeCursor(String lastName, String firstName, UUID id) {
+
+    private static final String SEPARATOR = "\u0000";
+
+    public static EmployeeCursor of(EmployeeResponse employee) {
+        return new EmployeeCursor(employee.lastName(), employee.firstName(), employee.id());
+    }
+
+    public String encode() {
+        String raw = lastName + SEPARATOR + firstName + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new InvalidRequestException("Invalid cursor: " + token);
+            }
+            return new EmployeeCursor(parts[0], parts[1], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+}
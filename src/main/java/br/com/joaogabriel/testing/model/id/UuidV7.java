@@ -0,0 +1,32 @@
+package br.com.joaogabriel.testing.model.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final SecureRandom random = new SecureRandom();
+    private static final AtomicLong last = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID next() {
+        return of(System.currentTimeMillis());
+    }
+
+    static UUID of(long epochMillis) {
+        long now = epochMillis << COUNTER_BITS;
+        long timestamp;
+        long previous;
+        do {
+            previous = last.get();
+            timestamp = Math.max(now, previous + 1);
+        } while (!last.compareAndSet(previous, timestamp));
+        // 48 bit epoch millis | version 7 | 12 bit same-millisecond counter, then variant | 62 random bits.
+        long mostSigBits = (timestamp >>> COUNTER_BITS) << 16 | 0x7000L | (timestamp & 0xFFFL);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.joaogabriel.testing.model.request;
+
+import java.io.Serializable;
+
+public record EmployeePatchRequest(
+    String firstName,
+    String lastName,
+    String email,
+    String cellphone,
+    Long version
+) implements Serializable {
+    
+}
@@ -0,0 +1,10 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+
+public record BatchDeleteResponse(
+    Integer requested,
+    Integer deleted
+) implements Serializable {
+    
+}
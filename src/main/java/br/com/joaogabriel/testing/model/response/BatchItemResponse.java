@@ -0,0 +1,21 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+public record BatchItemResponse(
+    Integer index,
+    String email,
+    BatchItemStatus status,
+    UUID id,
+    String message
+) implements Serializable {
+
+    public static BatchItemResponse created(int index, String email, UUID id) {
+        return new BatchItemResponse(index, email, BatchItemStatus.CREATED, id, null);
+    }
+
+    public static BatchItemResponse rejected(int index, String email, String message) {
+        return new BatchItemResponse(index, email, BatchItemStatus.REJECTED, null, message);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.joaogabriel.testing.model.response;
+
+public enum BatchItemStatus {
+    CREATED,
+    REJECTED
+}
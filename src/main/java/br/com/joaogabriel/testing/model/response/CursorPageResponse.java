@@ -0,0 +1,12 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record CursorPageResponse<T>(
+    List<T> content,
+    Integer size,
+    String next
+) implements Serializable {
+    
+}
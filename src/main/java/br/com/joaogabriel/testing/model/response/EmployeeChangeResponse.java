@@ -0,0 +1,17 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.event.EmployeeChangeType;
+
+public record EmployeeChangeResponse(
+    Long sequence,
+    EmployeeChangeType type,
+    UUID id,
+    EmployeeResponse employee,
+    Instant occurredAt
+) implements Serializable {
+
+}
@@ -0,0 +1,12 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+public record EmployeeLookupResponse(
+    List<EmployeeResponse> found,
+    List<UUID> missing
+) implements Serializable {
+    
+}
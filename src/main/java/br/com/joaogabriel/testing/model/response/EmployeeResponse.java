@@ -0,0 +1,21 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.model.Employee;
+
+public record EmployeeResponse(
+    UUID id,
+    String firstName,
+    String lastName,
+    String email,
+    String cellphone,
+    long version
+) implements Serializable {
+
+    public static EmployeeResponse of(Employee employee) {
+        return new EmployeeResponse(employee.getId(), employee.getFirstName(), employee.getLastName(),
+            employee.getEmail(), employee.getCellphone(), employee.getVersion());
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import br.com.joaogabriel.testing.model.Employee;
+
+public record EmployeeSuggestionResponse(
+    UUID id,
+    String firstName,
+    String lastName,
+    String email
+) implements Serializable {
+
+    public static EmployeeSuggestionResponse of(Employee employee) {
+        return new EmployeeSuggestionResponse(employee.getId(), employee.getFirstName(), employee.getLastName(),
+            employee.getEmail());
+    }
+}
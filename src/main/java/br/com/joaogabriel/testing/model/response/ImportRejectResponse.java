@@ -0,0 +1,11 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+
+public record ImportRejectResponse(
+    Long line,
+    String email,
+    String message
+) implements Serializable {
+    
+}
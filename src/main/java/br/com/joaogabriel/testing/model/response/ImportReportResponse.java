@@ -0,0 +1,15 @@
+package br.com.joaogabriel.testing.model.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record ImportReportResponse(
+    Long processed,
+    Long created,
+    Long rejected,
+    Long durationMillis,
+    List<ImportRejectResponse> rejects,
+    Boolean rejectsTruncated
+) implements Serializable {
+    
+}
@@ -1,20 +1,157 @@
 package br.com.joaogabriel.testing.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 
 
-public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, EmployeeUpsertRepository {
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Employee.EMAIL_QUERY_CACHE_REGION)
+    })
     Optional<Employee> findByEmail(String email);
 
-    @Query("SELECT e FROM Employee e where e.firstName =:firstName and e.lastName =:lastName")
-    Employee findByFullname(@Param("firstName") String firstName, @Param("lastName") String lastName);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<EmployeeResponse> findProjectedById(UUID id);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<EmployeeResponse> findProjectedByIdIn(Collection<UUID> ids);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    List<EmployeeResponse> findAllProjectedBy(Pageable pageable);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT new br.com.joaogabriel.testing.model.response.EmployeeResponse(e.id, e.firstName, e.lastName, e.email, e.cellphone, e.version)
+        FROM Employee e
+        ORDER BY e.lastName, e.firstName, e.id
+        """)
+    Slice<EmployeeResponse> findFirstPage(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT new br.com.joaogabriel.testing.model.response.EmployeeResponse(e.id, e.firstName, e.lastName, e.email, e.cellphone, e.version)
+        FROM Employee e
+        WHERE e.lastName >= :lastName
+            AND (e.lastName > :lastName
+                OR e.firstName > :firstName
+                OR (e.firstName = :firstName AND e.id > :id))
+        ORDER BY e.lastName, e.firstName, e.id
+        """)
+    Slice<EmployeeResponse> findPageAfter(@Param("lastName") String lastName, @Param("firstName") String firstName,
+        @Param("id") UUID id, Pageable pageable);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT e FROM Employee e")
+    Stream<Employee> streamAll();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.email FROM Employee e")
+    Stream<String> streamAllEmails();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse(e.id, e.firstName, e.lastName, e.email) FROM Employee e")
+    Stream<EmployeeSuggestionResponse> streamAllSuggestions();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id = :id")
+    int deleteEmployeeById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteEmployeesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    default List<UUID> deleteExistingByIdIn(Collection<UUID> ids) {
+        List<UUID> existing = findExistingIds(ids);
+        if (!existing.isEmpty()) {
+            deleteEmployeesByIdIn(existing);
+        }
+        return existing;
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT new br.com.joaogabriel.testing.model.response.EmployeeResponse(e.id, e.firstName, e.lastName, e.email, e.cellphone, e.version)
+        FROM Employee e
+        WHERE e.searchLastName = :lastName AND e.searchFirstName = :firstName
+        ORDER BY e.searchLastName, e.searchFirstName, e.id
+        """)
+    Slice<EmployeeResponse> findByFullname(@Param("firstName") String firstName, @Param("lastName") String lastName,
+        Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT new br.com.joaogabriel.testing.model.response.EmployeeResponse(e.id, e.firstName, e.lastName, e.email, e.cellphone, e.version)
+        FROM Employee e
+        WHERE e.searchLastName = :lastName
+        ORDER BY e.searchLastName, e.searchFirstName, e.id
+        """)
+    Slice<EmployeeResponse> findByLastName(@Param("lastName") String lastName, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT new br.com.joaogabriel.testing.model.response.EmployeeResponse(e.id, e.firstName, e.lastName, e.email, e.cellphone, e.version)
+        FROM Employee e
+        WHERE e.searchLastName >= :prefix AND e.searchLastName < :upperBound
+            AND e.searchLastName LIKE :pattern ESCAPE '\\'
+        ORDER BY e.searchLastName, e.searchFirstName, e.id
+        """)
+    Slice<EmployeeResponse> findByLastNamePrefix(@Param("prefix") String prefix, @Param("upperBound") String upperBound,
+        @Param("pattern") String pattern, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+        SELECT new br.com.joaogabriel.testing.model.response.EmployeeResponse(e.id, e.firstName, e.lastName, e.email, e.cellphone, e.version)
+        FROM Employee e
+        WHERE e.searchLastName = :lastName
+            AND e.searchFirstName >= :prefix AND e.searchFirstName < :upperBound
+            AND e.searchFirstName LIKE :pattern ESCAPE '\\'
+        ORDER BY e.searchLastName, e.searchFirstName, e.id
+        """)
+    Slice<EmployeeResponse> findByLastNameAndFirstNamePrefix(@Param("lastName") String lastName, @Param("prefix") String prefix,
+        @Param("upperBound") String upperBound, @Param("pattern") String pattern, Pageable pageable);
     
 }
@@ -0,0 +1,10 @@
+package br.com.joaogabriel.testing.repository;
+
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+
+public interface EmployeeUpsertRepository {
+
+    EmployeeResponse upsertByEmail(Employee employee);
+
+}
@@ -0,0 +1,89 @@
+package br.com.joaogabriel.testing.repository;
+
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import jakarta.persistence.EntityManager;
+
+public class EmployeeUpsertRepositoryImpl implements EmployeeUpsertRepository {
+
+    private static final String POSTGRES_UPSERT = """
+        INSERT INTO tb_employee (id, first_name, last_name, email, cellphone, version, search_first_name, search_last_name)
+        VALUES (:id, :firstName, :lastName, :email, :cellphone, 0, :searchFirstName, :searchLastName)
+        ON CONFLICT (email) DO UPDATE SET
+            first_name = EXCLUDED.first_name,
+            last_name = EXCLUDED.last_name,
+            cellphone = EXCLUDED.cellphone,
+            search_first_name = EXCLUDED.search_first_name,
+            search_last_name = EXCLUDED.search_last_name,
+            version = tb_employee.version + 1
+        RETURNING id, first_name, last_name, email, cellphone, version
+        """;
+
+    private static final String MERGE_UPSERT = """
+        SELECT id, first_name, last_name, email, cellphone, version FROM FINAL TABLE (
+            MERGE INTO tb_employee target
+            USING (VALUES (CAST(:id AS UUID), :firstName, :lastName, :email, :cellphone, :searchFirstName, :searchLastName))
+                AS source (id, first_name, last_name, email, cellphone, search_first_name, search_last_name)
+            ON target.email = source.email
+            WHEN MATCHED THEN UPDATE SET
+                first_name = source.first_name,
+                last_name = source.last_name,
+                cellphone = source.cellphone,
+                search_first_name = source.search_first_name,
+                search_last_name = source.search_last_name,
+                version = target.version + 1
+            WHEN NOT MATCHED THEN INSERT (id, first_name, last_name, email, cellphone, version, search_first_name, search_last_name)
+                VALUES (source.id, source.first_name, source.last_name, source.email, source.cellphone, 0,
+                    source.search_first_name, source.search_last_name))
+        """;
+
+    private final EntityManager entityManager;
+    private volatile String statement;
+
+    public EmployeeUpsertRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public EmployeeResponse upsertByEmail(Employee employee) {
+        Object[] row = (Object[]) this.entityManager.createNativeQuery(upsertStatement())
+            .unwrap(NativeQuery.class)
+            .addScalar("id", UUID.class)
+            .addScalar("first_name", String.class)
+            .addScalar("last_name", String.class)
+            .addScalar("email", String.class)
+            .addScalar("cellphone", String.class)
+            .addScalar("version", Long.class)
+            .setParameter("id", employee.getId())
+            .setParameter("firstName", employee.getFirstName())
+            .setParameter("lastName", employee.getLastName())
+            .setParameter("email", employee.getEmail())
+            .setParameter("cellphone", employee.getCellphone())
+            .setParameter("searchFirstName", employee.getSearchFirstName())
+            .setParameter("searchLastName", employee.getSearchLastName())
+            .getSingleResult();
+        return new EmployeeResponse((UUID) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+            (Long) row[5]);
+    }
+
+    // PostgreSQL resolves the race on the unique email index itself; other databases (H2 locally and in
+    // tests) get the standard MERGE, read back through a delta table so it stays a single statement.
+    // Decided from the connected database, not the configured dialect, which is pinned to PostgreSQL.
+    private String upsertStatement() {
+        String current = this.statement;
+        if (current == null) {
+            String product = this.entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            current = "PostgreSQL".equalsIgnoreCase(product) ? POSTGRES_UPSERT : MERGE_UPSERT;
+            this.statement = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.joaogabriel.testing.repository;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ReactiveEmployeeRepository {
+
+    private static final String COLUMNS = "id, first_name, last_name, email, cellphone, version";
+    private static final int FETCH_SIZE = 100;
+    private static final Map<String, String> SORTABLE = Map.of(
+        "id", "id",
+        "firstName", "first_name",
+        "lastName", "last_name",
+        "email", "email");
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveEmployeeRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<EmployeeResponse> findById(UUID id) {
+        return this.databaseClient.sql("SELECT " + COLUMNS + " FROM tb_employee WHERE id = :id")
+            .bind("id", id)
+            .map(ReactiveEmployeeRepository::toResponse)
+            .one();
+    }
+
+    public Flux<EmployeeResponse> findAll(Pageable pageable) {
+        return Flux.defer(() -> this.databaseClient.sql("SELECT " + COLUMNS + " FROM tb_employee ORDER BY "
+                + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset")
+            .bind("limit", pageable.getPageSize())
+            .bind("offset", pageable.getOffset())
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(ReactiveEmployeeRepository::toResponse)
+            .all());
+    }
+
+    public Mono<Boolean> existsByEmail(String email, UUID excludedId) {
+        DatabaseClient.GenericExecuteSpec spec = excludedId == null
+            ? this.databaseClient.sql("SELECT 1 FROM tb_employee WHERE email = :email")
+            : this.databaseClient.sql("SELECT 1 FROM tb_employee WHERE email = :email AND id <> :id").bind("id", excludedId);
+        return spec.bind("email", email)
+            .map(row -> Boolean.TRUE)
+            .first()
+            .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Mono<Long> insert(Employee employee) {
+        return this.databaseClient.sql("INSERT INTO tb_employee (id, first_name, last_name, email, cellphone, version, "
+                + "search_first_name, search_last_name) VALUES (:id, :firstName, :lastName, :email, :cellphone, :version, "
+                + ":searchFirstName, :searchLastName)")
+            .bind("id", employee.getId())
+            .bind("firstName", employee.getFirstName())
+            .bind("lastName", employee.getLastName())
+            .bind("email", employee.getEmail())
+            .bind("cellphone", employee.getCellphone())
+            .bind("version", employee.getVersion())
+            .bind("searchFirstName", employee.getSearchFirstName())
+            .bind("searchLastName", employee.getSearchLastName())
+            .fetch()
+            .rowsUpdated();
+    }
+
+    public Mono<Long> update(Employee employee) {
+        return this.databaseClient.sql("UPDATE tb_employee SET first_name = :firstName, last_name = :lastName, "
+                + "email = :email, cellphone = :cellphone, search_first_name = :searchFirstName, "
+                + "search_last_name = :searchLastName, version = version + 1 WHERE id = :id AND version = :version")
+            .bind("id", employee.getId())
+            .bind("firstName", employee.getFirstName())
+            .bind("lastName", employee.getLastName())
+            .bind("email", employee.getEmail())
+            .bind("cellphone", employee.getCellphone())
+            .bind("searchFirstName", employee.getSearchFirstName())
+            .bind("searchLastName", employee.getSearchLastName())
+            .bind("version", employee.getVersion())
+            .fetch()
+            .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(UUID id) {
+        return this.databaseClient.sql("DELETE FROM tb_employee WHERE id = :id")
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "last_name, first_name, id";
+        }
+        String columns = sort.stream()
+            .map(order -> {
+                String column = SORTABLE.get(order.getProperty());
+                if (column == null) {
+                    throw new InvalidRequestException("Unsupported sort property: " + order.getProperty());
+                }
+                return column + (order.isAscending() ? " ASC" : " DESC");
+            })
+            .collect(Collectors.joining(", "));
+        return columns + ", id";
+    }
+
+    private static EmployeeResponse toResponse(Readable row) {
+        return new EmployeeResponse(row.get("id", UUID.class), row.get("first_name", String.class),
+            row.get("last_name", String.class), row.get("email", String.class), row.get("cellphone", String.class),
+            row.get("version", Long.class));
+    }
+}
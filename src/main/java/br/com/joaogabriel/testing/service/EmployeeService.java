@@ -2,10 +2,20 @@ package br.com.joaogabriel.testing.service;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Pageable;
 
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.request.EmployeePatchRequest;
+import br.com.joaogabriel.testing.model.response.BatchDeleteResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemResponse;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeLookupResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.model.response.ImportReportResponse;
+import br.com.joaogabriel.testing.transfer.EmployeeReader;
 
 public interface EmployeeService {
     
@@ -13,12 +23,32 @@ public interface EmployeeService {
 
     Employee save(final Employee employee);
 
+    EmployeeResponse upsertByEmail(final String email, final Employee employee);
+
+    List<BatchItemResponse> saveAll(final List<Employee> employees);
+
+    ImportReportResponse importAll(final EmployeeReader reader);
+
     Employee update(final Employee employee);
 
-    Employee findById(final UUID id); 
+    Employee patch(final UUID id, final EmployeePatchRequest request);
+
+    EmployeeResponse findById(final UUID id); 
+
+    EmployeeLookupResponse findAllById(final List<UUID> ids);
 
-    List<Employee> findAll(Pageable pageable);
+    List<EmployeeResponse> findAll(Pageable pageable);
+
+    CursorPageResponse<EmployeeResponse> findAllAfter(final String after, final int size);
+
+    List<EmployeeResponse> search(final String firstName, final String lastName, final boolean prefix, Pageable pageable);
+
+    List<EmployeeSuggestionResponse> suggest(final String query, final int limit);
+
+    void exportAll(final Consumer<Employee> consumer);
 
     void delete(final UUID id);
+
+    BatchDeleteResponse deleteAll(final List<UUID> ids);
     
 }
@@ -0,0 +1,24 @@
+package br.com.joaogabriel.testing.service;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+
+    Mono<EmployeeResponse> save(final Employee employee);
+
+    Mono<EmployeeResponse> update(final Employee employee);
+
+    Mono<EmployeeResponse> findById(final UUID id);
+
+    Flux<EmployeeResponse> findAll(Pageable pageable);
+
+    Mono<Void> delete(final UUID id);
+
+}
@@ -1,70 +1,511 @@
 package br.com.joaogabriel.testing.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.joaogabriel.testing.config.CacheConfig;
+import br.com.joaogabriel.testing.datasource.ReadYourWritesContext;
+import br.com.joaogabriel.testing.datasource.ReplicaLagGuard;
+import br.com.joaogabriel.testing.email.EmailIndex;
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
 import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
 import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.EmployeeCursor;
+import br.com.joaogabriel.testing.model.SearchKeys;
+import br.com.joaogabriel.testing.model.id.UuidV7;
+import br.com.joaogabriel.testing.model.request.EmployeePatchRequest;
+import br.com.joaogabriel.testing.model.response.BatchDeleteResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemStatus;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeLookupResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.model.response.ImportRejectResponse;
+import br.com.joaogabriel.testing.model.response.ImportReportResponse;
 import br.com.joaogabriel.testing.repository.EmployeeRepository;
 import br.com.joaogabriel.testing.service.EmployeeService;
+import br.com.joaogabriel.testing.suggest.SuggestionIndex;
+import br.com.joaogabriel.testing.transfer.EmployeeReader;
+import br.com.joaogabriel.testing.transfer.EmployeeRecord;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 
 @Service
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final int BATCH_CHUNK_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_IMPORT_REJECTS = 1000;
+
     private final Logger logger = Logger.getLogger(EmployeeServiceImpl.class.getName());
     private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailIndex emailIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final ReplicaLagGuard replicaLagGuard;
+    private final Counter emailConflicts;
+    private final Counter notFound;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EntityManager entityManager,
+            CacheManager cacheManager, ApplicationEventPublisher eventPublisher, EmailIndex emailIndex,
+            SuggestionIndex suggestionIndex, ReplicaLagGuard replicaLagGuard, MeterRegistry meterRegistry) {
         this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.emailIndex = emailIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.replicaLagGuard = replicaLagGuard;
+        this.emailConflicts = Counter.builder("employee.email.conflicts")
+            .description("Employee writes rejected because the email is already used")
+            .register(meterRegistry);
+        this.notFound = Counter.builder("employee.not.found")
+            .description("Employee lookups and deletes for an id that does not exist")
+            .register(meterRegistry);
     }
 
     @Override
     public boolean isValidEmail(String email) {
         logger.info("Checking email availability: " + email);
+        if (!this.emailIndex.mightContain(email)) {
+            return true;
+        }
         Optional<Employee> employee = this.employeeRepository.findByEmail(email);
+        this.emailIndex.recordLookup(employee.isPresent());
         if (employee.isEmpty()) {
             return true;
         }
-        throw new ResourceAlreadyUsedException("Email unavailable!");
+        throw emailUnavailable();
     }
 
     @Override
+    @Transactional
     public Employee save(Employee employee) {
-        isValidEmail(employee.getEmail());
         logger.info("Saving employee into database.");
-        return this.employeeRepository.save(employee);
+        Employee saved = translateEmailConflict(() -> this.employeeRepository.saveAndFlush(employee));
+        this.eventPublisher.publishEvent(EmployeeChangedEvent.created(saved));
+        return saved;
+    }
+
+    @Override
+    public EmployeeResponse upsertByEmail(String email, Employee employee) {
+        logger.info("Upserting employee by email: " + email);
+        employee.setId(UuidV7.next());
+        employee.setEmail(email);
+        EmployeeResponse upserted = this.employeeRepository.upsertByEmail(employee);
+        employee.setId(upserted.id());
+        employee.setVersion(upserted.version());
+        Cache cache = this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            cache.evict(upserted.id());
+        }
+        org.hibernate.Cache secondLevelCache = this.entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getCache();
+        secondLevelCache.evictEntityData(Employee.class, upserted.id());
+        secondLevelCache.evictQueryRegion(Employee.EMAIL_QUERY_CACHE_REGION);
+        this.eventPublisher.publishEvent(upserted.version() == 0
+            ? EmployeeChangedEvent.created(employee) : EmployeeChangedEvent.updated(employee));
+        return upserted;
+    }
+
+    @Override
+    public List<BatchItemResponse> saveAll(List<Employee> employees) {
+        logger.info("Saving batch of " + employees.size() + " employees into database.");
+        List<BatchItemResponse> results = new ArrayList<>(employees.size());
+        Set<String> seen = new HashSet<>();
+        for (int start = 0; start < employees.size(); start += BATCH_CHUNK_SIZE) {
+            List<Employee> chunk = employees.subList(start, Math.min(start + BATCH_CHUNK_SIZE, employees.size()));
+            results.addAll(saveChunk(start, chunk, seen));
+        }
+        return results;
+    }
+
+    @Override
+    public ImportReportResponse importAll(EmployeeReader reader) {
+        logger.info("Importing employees into database.");
+        long startedAt = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        List<Employee> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+        List<Long> lines = new ArrayList<>(BATCH_CHUNK_SIZE);
+        EmployeeRecord record;
+        while ((record = reader.next()) != null) {
+            if (!record.isValid()) {
+                progress.reject(record.line(), null, record.error());
+                continue;
+            }
+            chunk.add(record.employee());
+            lines.add(record.line());
+            if (chunk.size() == BATCH_CHUNK_SIZE) {
+                importChunk(chunk, lines, progress);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, lines, progress);
+        }
+        long durationMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Import finished: " + progress.created + " created, " + progress.rejected + " rejected in " + durationMillis + " ms.");
+        return progress.report(durationMillis);
+    }
+
+    private void importChunk(List<Employee> chunk, List<Long> lines, ImportProgress progress) {
+        for (BatchItemResponse result : saveChunk(0, chunk, new HashSet<>())) {
+            if (result.status() == BatchItemStatus.CREATED) {
+                progress.created++;
+                progress.processed++;
+            } else {
+                progress.reject(lines.get(result.index()), result.email(), result.message());
+            }
+        }
+        logger.info("Imported " + progress.processed + " employees so far.");
+        chunk.clear();
+        lines.clear();
+    }
+
+    private static class ImportProgress {
+        private long processed;
+        private long created;
+        private long rejected;
+        private final List<ImportRejectResponse> rejects = new ArrayList<>();
+
+        private void reject(long line, String email, String message) {
+            this.processed++;
+            this.rejected++;
+            if (this.rejects.size() < MAX_IMPORT_REJECTS) {
+                this.rejects.add(new ImportRejectResponse(line, email, message));
+            }
+        }
+
+        private ImportReportResponse report(long durationMillis) {
+            return new ImportReportResponse(processed, created, rejected, durationMillis,
+                List.copyOf(rejects), rejected > rejects.size());
+        }
+    }
+
+    private List<BatchItemResponse> saveChunk(int offset, List<Employee> chunk, Set<String> seen) {
+        Set<String> emails = new HashSet<>();
+        for (Employee employee : chunk) {
+            if (employee != null && employee.getEmail() != null && this.emailIndex.mightContain(employee.getEmail())) {
+                emails.add(employee.getEmail());
+            }
+        }
+        Set<String> unavailable = emails.isEmpty()
+            ? Set.of()
+            : new HashSet<>(this.employeeRepository.findExistingEmails(emails));
+        for (String email : emails) {
+            this.emailIndex.recordLookup(unavailable.contains(email));
+        }
+
+        BatchItemResponse[] results = new BatchItemResponse[chunk.size()];
+        List<Employee> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Employee employee = chunk.get(i);
+            String email = employee == null ? null : employee.getEmail();
+            if (email == null) {
+                results[i] = BatchItemResponse.rejected(offset + i, null, "Email is required!");
+            } else if (unavailable.contains(email)) {
+                this.emailConflicts.increment();
+                results[i] = BatchItemResponse.rejected(offset + i, email, "Email unavailable!");
+            } else if (!seen.add(email)) {
+                this.emailConflicts.increment();
+                results[i] = BatchItemResponse.rejected(offset + i, email, "Email duplicated in batch!");
+            } else {
+                accepted.add(employee);
+                acceptedIndexes.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            try {
+                List<Employee> saved = this.employeeRepository.saveAll(accepted);
+                for (int i = 0; i < saved.size(); i++) {
+                    int index = acceptedIndexes.get(i);
+                    results[index] = BatchItemResponse.created(offset + index, saved.get(i).getEmail(), saved.get(i).getId());
+                    this.eventPublisher.publishEvent(EmployeeChangedEvent.created(saved.get(i)));
+                }
+            } catch (DataIntegrityViolationException exception) {
+                logger.info("Batch insert rejected by database, retrying items one by one.");
+                for (int i = 0; i < accepted.size(); i++) {
+                    int index = acceptedIndexes.get(i);
+                    results[index] = saveSingle(offset + index, accepted.get(i));
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private BatchItemResponse saveSingle(int index, Employee employee) {
+        employee.setId(null);
+        try {
+            Employee saved = this.employeeRepository.save(employee);
+            this.eventPublisher.publishEvent(EmployeeChangedEvent.created(saved));
+            return BatchItemResponse.created(index, saved.getEmail(), saved.getId());
+        } catch (DataIntegrityViolationException exception) {
+            if (isEmailConflict(exception)) {
+                this.emailConflicts.increment();
+                return BatchItemResponse.rejected(index, employee.getEmail(), "Email unavailable!");
+            }
+            return BatchItemResponse.rejected(index, employee.getEmail(), exception.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private static boolean isEmailConflict(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Employee.EMAIL_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    private ResourceAlreadyUsedException emailUnavailable() {
+        this.emailConflicts.increment();
+        return new ResourceAlreadyUsedException("Email unavailable!");
+    }
+
+    // The unique constraint is the final word on email availability; writes flush inside this call so a
+    // violation surfaces here as "Email unavailable!" instead of escaping at commit as a server error.
+    private <T> T translateEmailConflict(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException exception) {
+            if (isEmailConflict(exception)) {
+                throw emailUnavailable();
+            }
+            throw exception;
+        }
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employee.id", condition = "#employee.id != null")
     public Employee update(Employee employee) {
         logger.info("Updating employee into database.");
-        return this.employeeRepository.saveAndFlush(employee);
+        boolean created = employee.getId() == null;
+        Employee saved = translateEmailConflict(() -> this.employeeRepository.saveAndFlush(employee));
+        this.eventPublisher.publishEvent(created ? EmployeeChangedEvent.created(saved) : EmployeeChangedEvent.updated(saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
+    public Employee patch(UUID id, EmployeePatchRequest request) {
+        logger.info("Patching employee by id: " + id);
+        Employee employee = this.employeeRepository.findById(id)
+            .orElseThrow(() -> notFound(id));
+        if (request.version() != null && request.version() != employee.getVersion()) {
+            throw new ResourceConflictException("Employee was modified by another request. Id: " + id);
+        }
+        boolean emailChanged = request.email() != null && !request.email().equals(employee.getEmail());
+        if (emailChanged) {
+            isValidEmail(request.email());
+            employee.setEmail(request.email());
+        }
+        if (request.firstName() != null) {
+            employee.setFirstName(request.firstName());
+        }
+        if (request.lastName() != null) {
+            employee.setLastName(request.lastName());
+        }
+        if (request.cellphone() != null) {
+            employee.setCellphone(request.cellphone());
+        }
+        if (emailChanged) {
+            translateEmailConflict(() -> this.employeeRepository.saveAndFlush(employee));
+        }
+        this.eventPublisher.publishEvent(EmployeeChangedEvent.updated(employee));
+        return employee;
     }
 
     @Override
-    public Employee findById(UUID id) {
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id", sync = true,
+        condition = "!T(br.com.joaogabriel.testing.datasource.ReadYourWritesContext).isSticky()"
+            + " && !@replicaLagGuard.isRecentlyWritten(#id)")
+    public EmployeeResponse findById(UUID id) {
         logger.info("Getting employee by id: " + id);
-        return this.employeeRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Employee not found into database. Id: " + id));
+        return this.employeeRepository.findProjectedById(id)
+            .orElseThrow(() -> notFound(id));
     }
 
     @Override
-    public List<Employee> findAll(Pageable pageable) {
+    public EmployeeLookupResponse findAllById(List<UUID> ids) {
+        logger.info("Looking up batch of " + ids.size() + " employeers.");
+        Set<UUID> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        Map<UUID, EmployeeResponse> found = new HashMap<>();
+        List<UUID> pending = new ArrayList<>();
+        Cache cache = ReadYourWritesContext.isSticky() ? null : this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        for (UUID id : distinct) {
+            EmployeeResponse cached = cache != null ? cache.get(id, EmployeeResponse.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                pending.add(id);
+            }
+        }
+        for (int start = 0; start < pending.size(); start += BATCH_CHUNK_SIZE) {
+            List<UUID> chunk = pending.subList(start, Math.min(start + BATCH_CHUNK_SIZE, pending.size()));
+            for (EmployeeResponse employee : this.employeeRepository.findProjectedByIdIn(chunk)) {
+                found.put(employee.id(), employee);
+                if (cache != null && !this.replicaLagGuard.isRecentlyWritten(employee.id())) {
+                    cache.putIfAbsent(employee.id(), employee);
+                }
+            }
+        }
+        List<EmployeeResponse> employees = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : distinct) {
+            EmployeeResponse employee = found.get(id);
+            if (employee != null) {
+                employees.add(employee);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new EmployeeLookupResponse(employees, missing);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> findAll(Pageable pageable) {
         logger.info("Find all employers");
-        return this.employeeRepository.findAll(pageable)
-            .stream().toList();
+        return this.employeeRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<EmployeeResponse> findAllAfter(String after, int size) {
+        logger.info("Find employers after cursor: " + after);
+        Pageable pageable = PageRequest.ofSize(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        Slice<EmployeeResponse> slice;
+        if (after == null || after.isBlank()) {
+            slice = this.employeeRepository.findFirstPage(pageable);
+        } else {
+            EmployeeCursor cursor = EmployeeCursor.decode(after);
+            slice = this.employeeRepository.findPageAfter(cursor.lastName(), cursor.firstName(), cursor.id(), pageable);
+        }
+        List<EmployeeResponse> content = slice.getContent();
+        String next = slice.hasNext() ? EmployeeCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(content, pageable.getPageSize(), next);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> search(String firstName, String lastName, boolean prefix, Pageable pageable) {
+        logger.info("Searching employers by name: " + firstName + " " + lastName);
+        String last = SearchKeys.normalize(lastName);
+        String first = SearchKeys.normalize(firstName);
+        if (last == null || last.isEmpty()) {
+            throw new InvalidRequestException("Last name is required to search employees.");
+        }
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        boolean hasFirst = first != null && !first.isEmpty();
+        Slice<EmployeeResponse> result;
+        if (!prefix) {
+            result = hasFirst
+                ? this.employeeRepository.findByFullname(first, last, page)
+                : this.employeeRepository.findByLastName(last, page);
+        } else if (hasFirst) {
+            result = this.employeeRepository.findByLastNameAndFirstNamePrefix(last, first,
+                SearchKeys.upperBound(first), SearchKeys.likePattern(first), page);
+        } else {
+            result = this.employeeRepository.findByLastNamePrefix(last,
+                SearchKeys.upperBound(last), SearchKeys.likePattern(last), page);
+        }
+        return result.getContent();
+    }
+
+    @Override
+    public List<EmployeeSuggestionResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return this.suggestionIndex.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Employee> consumer) {
+        logger.info("Exporting all employers");
+        try (Stream<Employee> employees = this.employeeRepository.streamAll()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                this.entityManager.detach(employee);
+            });
+        }
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#id")
     public void delete(UUID id) {
         logger.info("Deleting employeer by id: " + id);
-        this.employeeRepository.delete(findById(id));
+        if (this.employeeRepository.deleteEmployeeById(id) == 0) {
+            throw notFound(id);
+        }
+        this.eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
+    }
+
+    private ResourceNotFoundException notFound(UUID id) {
+        this.notFound.increment();
+        return new ResourceNotFoundException("Employee not found into database. Id: " + id);
+    }
+
+    @Override
+    public BatchDeleteResponse deleteAll(List<UUID> ids) {
+        logger.info("Deleting batch of " + ids.size() + " employeers.");
+        Set<UUID> distinct = new HashSet<>(ids);
+        distinct.remove(null);
+        List<UUID> pending = new ArrayList<>(distinct);
+        int deleted = 0;
+        for (int start = 0; start < pending.size(); start += BATCH_CHUNK_SIZE) {
+            List<UUID> chunk = pending.subList(start, Math.min(start + BATCH_CHUNK_SIZE, pending.size()));
+            List<UUID> removed = this.employeeRepository.deleteExistingByIdIn(chunk);
+            removed.forEach(removedId -> this.eventPublisher.publishEvent(EmployeeChangedEvent.deleted(removedId)));
+            deleted += removed.size();
+        }
+        Cache cache = this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            pending.forEach(cache::evict);
+        }
+        return new BatchDeleteResponse(ids.size(), deleted);
     }
     
     
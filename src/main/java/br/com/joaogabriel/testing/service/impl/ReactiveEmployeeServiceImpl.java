@@ -0,0 +1,161 @@
+package br.com.joaogabriel.testing.service.impl;
+
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.joaogabriel.testing.config.CacheConfig;
+import br.com.joaogabriel.testing.email.EmailIndex;
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
+import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.id.UuidV7;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.repository.ReactiveEmployeeRepository;
+import br.com.joaogabriel.testing.service.ReactiveEmployeeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private final Logger logger = Logger.getLogger(ReactiveEmployeeServiceImpl.class.getName());
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final CacheManager cacheManager;
+    private final org.hibernate.Cache secondLevelCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailIndex emailIndex;
+    private final Counter emailConflicts;
+    private final Counter notFound;
+
+    public ReactiveEmployeeServiceImpl(ReactiveEmployeeRepository employeeRepository,
+            TransactionalOperator transactionalOperator, CacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory, ApplicationEventPublisher eventPublisher,
+            EmailIndex emailIndex, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.cacheManager = cacheManager;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.eventPublisher = eventPublisher;
+        this.emailIndex = emailIndex;
+        this.emailConflicts = Counter.builder("employee.email.conflicts")
+            .description("Employee writes rejected because the email is already used")
+            .register(meterRegistry);
+        this.notFound = Counter.builder("employee.not.found")
+            .description("Employee lookups and deletes for an id that does not exist")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<EmployeeResponse> save(Employee employee) {
+        return Mono.defer(() -> {
+            logger.info("Saving employee into database.");
+            employee.setId(UuidV7.next());
+            employee.setVersion(0);
+            return emailTaken(employee.getEmail(), null)
+                .flatMap(exists -> exists ? Mono.<Long>error(emailUnavailable()) : this.employeeRepository.insert(employee))
+                .as(this.transactionalOperator::transactional)
+                .onErrorResume(DataIntegrityViolationException.class, exception -> emailConflict(employee, exception))
+                .thenReturn(employee);
+        })
+        .doOnSuccess(saved -> afterWrite(EmployeeChangedEvent.created(saved)))
+        .map(EmployeeResponse::of);
+    }
+
+    @Override
+    public Mono<EmployeeResponse> update(Employee employee) {
+        if (employee.getId() == null) {
+            return save(employee);
+        }
+        UUID id = employee.getId();
+        return Mono.defer(() -> {
+            logger.info("Updating employee into database.");
+            return emailTaken(employee.getEmail(), id)
+                .flatMap(exists -> exists ? Mono.<Long>error(emailUnavailable()) : this.employeeRepository.update(employee))
+                .flatMap(updated -> updated > 0
+                    ? Mono.just(employee)
+                    : this.employeeRepository.findById(id)
+                        .flatMap(current -> Mono.<Employee>error(new ResourceConflictException(
+                            "Employee was modified by another request. Id: " + id)))
+                        .switchIfEmpty(Mono.error(() -> notFound(id))))
+                .as(this.transactionalOperator::transactional)
+                .onErrorResume(DataIntegrityViolationException.class, exception -> emailConflict(employee, exception));
+        })
+        .doOnSuccess(updated -> {
+            updated.setVersion(updated.getVersion() + 1);
+            afterWrite(EmployeeChangedEvent.updated(updated));
+        })
+        .map(EmployeeResponse::of);
+    }
+
+    @Override
+    public Mono<EmployeeResponse> findById(UUID id) {
+        logger.info("Getting employee by id: " + id);
+        return this.employeeRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Flux<EmployeeResponse> findAll(Pageable pageable) {
+        return this.employeeRepository.findAll(pageable);
+    }
+
+    @Override
+    public Mono<Void> delete(UUID id) {
+        logger.info("Deleting employeer by id: " + id);
+        return this.employeeRepository.deleteById(id)
+            .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(notFound(id)) : Mono.<Void>empty())
+            .doOnSuccess(ignored -> afterWrite(EmployeeChangedEvent.deleted(id)));
+    }
+
+    private Mono<Boolean> emailTaken(String email, UUID excludedId) {
+        if (!this.emailIndex.mightContain(email)) {
+            return Mono.just(false);
+        }
+        return this.employeeRepository.existsByEmail(email, excludedId)
+            .doOnNext(found -> {
+                if (excludedId == null) {
+                    this.emailIndex.recordLookup(found);
+                }
+            });
+    }
+
+    private <T> Mono<T> emailConflict(Employee employee, DataIntegrityViolationException exception) {
+        return this.employeeRepository.existsByEmail(employee.getEmail(), employee.getId())
+            .flatMap(exists -> Mono.error(exists ? emailUnavailable() : exception));
+    }
+
+    private ResourceAlreadyUsedException emailUnavailable() {
+        this.emailConflicts.increment();
+        return new ResourceAlreadyUsedException("Email unavailable!");
+    }
+
+    private ResourceNotFoundException notFound(UUID id) {
+        this.notFound.increment();
+        return new ResourceNotFoundException("Employee not found into database. Id: " + id);
+    }
+
+    private void afterWrite(EmployeeChangedEvent event) {
+        Cache cache = this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        if (cache != null) {
+            cache.evict(event.id());
+        }
+        this.secondLevelCache.evictEntityData(Employee.class, event.id());
+        this.secondLevelCache.evictQueryRegion(Employee.EMAIL_QUERY_CACHE_REGION);
+        this.eventPublisher.publishEvent(event);
+    }
+}
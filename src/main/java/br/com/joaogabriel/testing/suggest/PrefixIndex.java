@@ -0,0 +1,135 @@
+package br.com.joaogabriel.testing.suggest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import br.com.joaogabriel.testing.model.SearchKeys;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+
+public class PrefixIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+    private static final char ID_SEPARATOR = '\u0000';
+    // Counting how many keys a term covers stops here; past it a term is simply "not selective".
+    private static final int MAX_COUNTED = 2048;
+
+    private final ConcurrentSkipListMap<String, UUID> tokens = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(EmployeeSuggestionResponse suggestion, Set<String> tokens) {}
+
+    public void put(EmployeeSuggestionResponse suggestion) {
+        this.entries.compute(suggestion.id(), (id, previous) -> replace(previous, suggestion));
+    }
+
+    // Skipped ids are checked under the same per-id lock as put and remove, so a row read by a rebuild never
+    // overwrites a change applied while the rebuild was running.
+    public void putUnless(EmployeeSuggestionResponse suggestion, Set<UUID> skipped) {
+        this.entries.compute(suggestion.id(),
+            (id, previous) -> skipped.contains(id) ? previous : replace(previous, suggestion));
+    }
+
+    public void remove(UUID id) {
+        this.entries.computeIfPresent(id, (key, previous) -> {
+            previous.tokens().forEach(token -> this.tokens.remove(key(token, key)));
+            return null;
+        });
+    }
+
+    private Entry replace(Entry previous, EmployeeSuggestionResponse suggestion) {
+        Set<String> next = tokenize(suggestion.firstName(), suggestion.lastName(), suggestion.email());
+        next.forEach(token -> this.tokens.put(key(token, suggestion.id()), suggestion.id()));
+        if (previous != null) {
+            previous.tokens().stream()
+                .filter(token -> !next.contains(token))
+                .forEach(token -> this.tokens.remove(key(token, suggestion.id())));
+        }
+        return new Entry(suggestion, next);
+    }
+
+    public List<EmployeeSuggestionResponse> suggest(String query, int limit) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String driver = mostSelective(terms);
+        List<EmployeeSuggestionResponse> matches = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+        for (UUID id : range(driver).values()) {
+            if (!seen.add(id)) {
+                continue;
+            }
+            Entry entry = this.entries.get(id);
+            if (entry != null && matchesAll(entry.tokens(), terms)) {
+                matches.add(entry.suggestion());
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    // Drives the scan with the term covering the fewest keys, so "gmail jo" walks the few "jo" tokens and checks
+    // them for "gmail" rather than the other way round. Every driver key is then visited, never truncated.
+    private String mostSelective(Set<String> terms) {
+        String driver = null;
+        int fewest = Integer.MAX_VALUE;
+        for (String term : terms) {
+            int count = 0;
+            for (var iterator = range(term).keySet().iterator(); iterator.hasNext() && count <= MAX_COUNTED; iterator.next()) {
+                count++;
+            }
+            if (count < fewest) {
+                driver = term;
+                fewest = count;
+            }
+        }
+        return driver;
+    }
+
+    private ConcurrentNavigableMap<String, UUID> range(String term) {
+        return this.tokens.subMap(term, SearchKeys.upperBound(term));
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private static boolean matchesAll(Set<String> tokens, Set<String> terms) {
+        for (String term : terms) {
+            if (tokens.stream().noneMatch(token -> token.startsWith(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> tokenize(String... values) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String value : values) {
+            String normalized = SearchKeys.normalize(value);
+            if (normalized == null) {
+                continue;
+            }
+            for (String token : TOKEN_SEPARATOR.split(normalized)) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static String key(String token, UUID id) {
+        return token + ID_SEPARATOR + id;
+    }
+}
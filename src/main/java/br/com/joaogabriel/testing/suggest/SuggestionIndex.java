@@ -0,0 +1,138 @@
+package br.com.joaogabriel.testing.suggest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.joaogabriel.testing.event.EmployeeChangeType;
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class SuggestionIndex {
+
+    private final Logger logger = Logger.getLogger(SuggestionIndex.class.getName());
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService rebuilder;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final Timer lookupTimer;
+    private final Timer rebuildTimer;
+    private volatile PrefixIndex index;
+    private volatile PrefixIndex building;
+
+    public SuggestionIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        // Read-write on purpose: a lagging replica would leave fresh employees out of the rebuilt index.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuilder = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("suggestion-index-"));
+        this.lookupTimer = Timer.builder("employee.suggestion.index.lookup")
+            .description("Time to answer a typeahead suggestion from the in-memory index")
+            .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("employee.suggestion.index.rebuild")
+            .description("Time to rebuild the suggestion index from the database")
+            .register(meterRegistry);
+        Gauge.builder("employee.suggestion.index.entries", this, index -> index.index == null ? 0 : index.index.size())
+            .description("Employees held by the suggestion index")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        scheduleRebuild();
+    }
+
+    public List<EmployeeSuggestionResponse> suggest(String query, int limit) {
+        PrefixIndex current = this.index;
+        if (current == null) {
+            return List.of();
+        }
+        long startedAt = System.nanoTime();
+        List<EmployeeSuggestionResponse> suggestions = current.suggest(query, limit);
+        this.lookupTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return suggestions;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        PrefixIndex next = this.building;
+        if (next != null) {
+            this.changedDuringRebuild.add(event.id());
+            apply(next, event);
+        }
+        PrefixIndex current = this.index;
+        if (current != null && current != next) {
+            apply(current, event);
+        }
+    }
+
+    private static void apply(PrefixIndex index, EmployeeChangedEvent event) {
+        if (event.type() == EmployeeChangeType.DELETED || event.employee() == null) {
+            index.remove(event.id());
+        } else {
+            index.put(EmployeeSuggestionResponse.of(event.employee()));
+        }
+    }
+
+    public void scheduleRebuild() {
+        if (this.rebuilding.compareAndSet(false, true)) {
+            this.rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException exception) {
+                    logger.log(Level.WARNING, "Suggestion index rebuild failed; the previous index keeps serving.", exception);
+                } finally {
+                    this.building = null;
+                    this.changedDuringRebuild.clear();
+                    this.rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    void rebuild() {
+        long startedAt = System.nanoTime();
+        PrefixIndex next = new PrefixIndex();
+        this.changedDuringRebuild.clear();
+        this.building = next;
+        this.transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EmployeeSuggestionResponse> suggestions = this.employeeRepository.streamAllSuggestions()) {
+                suggestions.forEach(suggestion -> next.putUnless(suggestion, this.changedDuringRebuild));
+            }
+        });
+        this.index = next;
+        this.building = null;
+        long elapsed = System.nanoTime() - startedAt;
+        this.rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Suggestion index rebuilt with " + next.size() + " employees in "
+            + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms.");
+    }
+
+    @PreDestroy
+    public void close() {
+        this.rebuilder.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.joaogabriel.testing.transfer;
+
+import java.util.Locale;
+
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
+
+public enum EmployeeFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final String mediaType;
+
+    EmployeeFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static EmployeeFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            for (EmployeeFormat format : values()) {
+                if (contentType.toLowerCase(Locale.ROOT).startsWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new InvalidRequestException("Unsupported content type: " + contentType);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.joaogabriel.testing.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
+import br.com.joaogabriel.testing.model.Employee;
+
+public class EmployeeReader {
+
+    private final EmployeeFormat format;
+    private final ObjectMapper objectMapper;
+    private final BufferedReader reader;
+    private long line;
+    private List<String> columns;
+
+    public EmployeeReader(EmployeeFormat format, ObjectMapper objectMapper, InputStream inputStream) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public EmployeeRecord next() {
+        try {
+            String text;
+            while ((text = this.reader.readLine()) != null) {
+                this.line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (format == EmployeeFormat.CSV && this.columns == null) {
+                    List<String> header = parseCsv(text);
+                    if (header == null || !header.contains("email")) {
+                        throw new InvalidRequestException("CSV header must contain an email column.");
+                    }
+                    this.columns = header;
+                    continue;
+                }
+                return parse(text);
+            }
+            return null;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private EmployeeRecord parse(String text) {
+        if (format == EmployeeFormat.NDJSON) {
+            try {
+                Employee employee = this.objectMapper.readValue(text, Employee.class);
+                if (employee == null) {
+                    return new EmployeeRecord(this.line, null, "Malformed JSON: expected an employee object.");
+                }
+                employee.setId(null);
+                return new EmployeeRecord(this.line, employee, null);
+            } catch (JsonProcessingException exception) {
+                return new EmployeeRecord(this.line, null, "Malformed JSON: " + exception.getOriginalMessage());
+            }
+        }
+        List<String> values = parseCsv(text);
+        if (values == null || values.size() != this.columns.size()) {
+            return new EmployeeRecord(this.line, null, "Malformed CSV row.");
+        }
+        Employee employee = new Employee();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).isEmpty() ? null : values.get(i);
+            switch (this.columns.get(i)) {
+                case "firstName" -> employee.setFirstName(value);
+                case "lastName" -> employee.setLastName(value);
+                case "email" -> employee.setEmail(value);
+                case "cellphone" -> employee.setCellphone(value);
+                default -> { }
+            }
+        }
+        return new EmployeeRecord(this.line, employee, null);
+    }
+
+    private static List<String> parseCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
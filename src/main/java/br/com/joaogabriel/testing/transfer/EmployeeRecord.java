@@ -0,0 +1,10 @@
+package br.com.joaogabriel.testing.transfer;
+
+import br.com.joaogabriel.testing.model.Employee;
+
+public record EmployeeRecord(long line, Employee employee, String error) {
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.joaogabriel.testing.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.joaogabriel.testing.model.Employee;
+
+public class EmployeeWriter implements AutoCloseable {
+
+    public static final String CSV_HEADER = "id,firstName,lastName,email,cellphone";
+
+    private final EmployeeFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    public EmployeeWriter(EmployeeFormat format, ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == EmployeeFormat.NDJSON) {
+            this.generator = objectMapper.getFactory().createGenerator(this.writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator = null;
+            this.writer.write(CSV_HEADER);
+            this.writer.write('\n');
+        }
+    }
+
+    public void write(Employee employee) {
+        try {
+            if (format == EmployeeFormat.NDJSON) {
+                this.objectMapper.writeValue(this.generator, employee);
+                this.generator.writeRaw('\n');
+            } else {
+                this.writer.write(csv(employee.getId() == null ? null : employee.getId().toString()));
+                this.writer.write(',');
+                this.writer.write(csv(employee.getFirstName()));
+                this.writer.write(',');
+                this.writer.write(csv(employee.getLastName()));
+                this.writer.write(',');
+                this.writer.write(csv(employee.getEmail()));
+                this.writer.write(',');
+                this.writer.write(csv(employee.getCellphone()));
+                this.writer.write('\n');
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.generator != null) {
+            this.generator.close();
+        }
+        this.writer.flush();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
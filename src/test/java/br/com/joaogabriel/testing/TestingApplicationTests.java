@@ -3,7 +3,7 @@ package br.com.joaogabriel.testing;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.reactive.port=0")
 class TestingApplicationTests {
 
 	@Test
@@ -1,7 +1,10 @@
 package br.com.joaogabriel.testing.controller;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,14 +12,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
@@ -25,12 +31,27 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.joaogabriel.testing.event.EmployeeChangeFeed;
 import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
 import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
+import br.com.joaogabriel.testing.exception.ServiceOverloadedException;
+import br.com.joaogabriel.testing.idempotency.IdempotencyStore;
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.request.EmployeePatchRequest;
+import br.com.joaogabriel.testing.model.response.BatchDeleteResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemResponse;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeLookupResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.model.response.ImportReportResponse;
+import br.com.joaogabriel.testing.transfer.EmployeeReader;
 import br.com.joaogabriel.testing.service.EmployeeService;
+import br.com.joaogabriel.testing.service.ReactiveEmployeeService;
 
 @WebMvcTest
+@Import(IdempotencyStore.class)
 public class EmployeeControllerTest {
 
     @Autowired
@@ -42,6 +63,12 @@ public class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeChangeFeed changeFeed;
+
+    @MockBean
+    private ReactiveEmployeeService reactiveEmployeeService;
+
     private Employee employee;
 
     private Employee saved;
@@ -96,6 +123,40 @@ public class EmployeeControllerTest {
             .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(saved.getId().toString())));
     }
 
+    @DisplayName("Given unknown email, when upsert employee by email, then return created with the inserted row.")
+    @Test
+    public void givenUnknownEmail_whenUpsertEmployeeByEmail_thenReturnCreated() throws Exception {
+        BDDMockito.given(employeeService.upsertByEmail(ArgumentMatchers.eq(employee.getEmail()), ArgumentMatchers.any(Employee.class)))
+            .willReturn(new EmployeeResponse(id, employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getCellphone(), 0L));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/employees/by-email/{email}", employee.getEmail())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(employee)));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isCreated())
+            .andExpect(MockMvcResultMatchers.header().string("ETag", "\"" + id + "-0\""))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(id.toString())));
+    }
+
+    @DisplayName("Given known email, when upsert employee by email, then return ok with the updated row.")
+    @Test
+    public void givenKnownEmail_whenUpsertEmployeeByEmail_thenReturnOk() throws Exception {
+        BDDMockito.given(employeeService.upsertByEmail(ArgumentMatchers.eq(employee.getEmail()), ArgumentMatchers.any(Employee.class)))
+            .willReturn(new EmployeeResponse(id, employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                "14 988888888", 3L));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/employees/by-email/{email}", employee.getEmail())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(employee)));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(3)))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.cellphone", CoreMatchers.is("14 988888888")));
+    }
+
     @DisplayName("Given employee object with invalid email, when save employee into database, then throw ResourceAlreadyUsedException.")
     @Test
     public void givenEmployeeObjectWithInvalidEmail_whenSaveEmployee_thenThrowResourceAlreadyUsedException() throws JsonProcessingException, Exception {
@@ -111,11 +172,91 @@ public class EmployeeControllerTest {
             .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Email unavailable.")));
     }
 
+    @DisplayName("Given repeated Idempotency-Key, when save employee again, then replay first response without calling the service.")
+    @Test
+    public void givenRepeatedIdempotencyKey_whenSaveEmployeeAgain_thenReplayFirstResponse() throws Exception {
+        BDDMockito.given(employeeService.save(ArgumentMatchers.any(Employee.class)))
+            .willReturn(saved);
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(MockMvcRequestBuilders.post(baseUri)
+            .header("Idempotency-Key", key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(employee)))
+            .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.post(baseUri)
+            .header("Idempotency-Key", key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(employee)));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isCreated())
+            .andExpect(MockMvcResultMatchers.header().string("Idempotent-Replayed", "true"))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(saved.getId().toString())));
+        BDDMockito.then(employeeService).should(Mockito.times(1)).save(ArgumentMatchers.any(Employee.class));
+    }
+
+    @DisplayName("Given Idempotency-Key used with another payload, when save employee, then return conflict.")
+    @Test
+    public void givenIdempotencyKeyWithAnotherPayload_whenSaveEmployee_thenReturnConflict() throws Exception {
+        BDDMockito.given(employeeService.save(ArgumentMatchers.any(Employee.class)))
+            .willReturn(saved);
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(MockMvcRequestBuilders.post(baseUri)
+            .header("Idempotency-Key", key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(employee)));
+        employee.setEmail("another@gmail.com");
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.post(baseUri)
+            .header("Idempotency-Key", key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(employee)));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isConflict());
+    }
+
+    @DisplayName("Given employee batch, when save all employees, then return result per item.")
+    @Test
+    public void givenEmployeeBatch_whenSaveAllEmployees_thenReturnResultPerItem() throws JsonProcessingException, Exception {
+        BDDMockito.given(employeeService.saveAll(ArgumentMatchers.<Employee>anyList()))
+            .willReturn(List.of(BatchItemResponse.created(0, saved.getEmail(), id),
+                BatchItemResponse.rejected(1, saved.getEmail(), "Email duplicated in batch!")));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.post(baseUri + "/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(List.of(employee, employee))));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].status", CoreMatchers.is("CREATED")))
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(id.toString())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$[1].status", CoreMatchers.is("REJECTED")));
+    }
+
+    @DisplayName("Given ndjson upload, when import employees, then return import report.")
+    @Test
+    public void givenNdjsonUpload_whenImportEmployees_thenReturnImportReport() throws Exception {
+        BDDMockito.given(employeeService.importAll(ArgumentMatchers.any(EmployeeReader.class)))
+            .willReturn(new ImportReportResponse(1L, 1L, 0L, 5L, List.of(), false));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.post(baseUri + "/import")
+            .contentType("application/x-ndjson")
+            .content(objectMapper.writeValueAsString(employee) + "\n"));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.created", CoreMatchers.is(1)))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.rejected", CoreMatchers.is(0)));
+    }
+
     @DisplayName("Given employee object, when retrieve all employees, then return list of employeers from database.")
     @Test
     public void givenEmployeeList_whenRetrieveAllEmployees_thenReturnListOfEmployeers() throws Exception {
         BDDMockito.given(employeeService.findAll(ArgumentMatchers.any(PageRequest.class)))
-            .willReturn(new PageImpl<Employee>(Collections.emptyList()).stream().toList());
+            .willReturn(new PageImpl<EmployeeResponse>(Collections.emptyList()).stream().toList());
 
         ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders
             .get(baseUri, PageRequest.of(0, 10, Sort.Direction.ASC, "firstName"))
@@ -125,11 +266,122 @@ public class EmployeeControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk());
     }
 
+    @DisplayName("Given after cursor, when retrieve employees, then return cursor page.")
+    @Test
+    public void givenAfterCursor_whenRetrieveEmployees_thenReturnCursorPage() throws Exception {
+        BDDMockito.given(employeeService.findAllAfter("", 20))
+            .willReturn(new CursorPageResponse<>(List.of(EmployeeResponse.of(saved)), 20, "next-token"));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.get(baseUri)
+            .param("after", "")
+            .contentType(MediaType.APPLICATION_JSON));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(id.toString())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.next", CoreMatchers.is("next-token")));
+    }
+
+    @DisplayName("Given last cursor page that gains a next cursor, when retrieve with previous ETag, then return the new page.")
+    @Test
+    public void givenLastCursorPageGainsNext_whenRetrieveWithPreviousETag_thenReturnNewPage() throws Exception {
+        BDDMockito.given(employeeService.findAllAfter("token", 20))
+            .willReturn(new CursorPageResponse<>(List.of(EmployeeResponse.of(saved)), 20, null));
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(baseUri).param("after", "token"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(baseUri).param("after", "token").header("If-None-Match", eTag))
+            .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        BDDMockito.given(employeeService.findAllAfter("token", 20))
+            .willReturn(new CursorPageResponse<>(List.of(EmployeeResponse.of(saved)), 20, "next-token"));
+        mockMvc.perform(MockMvcRequestBuilders.get(baseUri).param("after", "token").header("If-None-Match", eTag))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.next", CoreMatchers.is("next-token")));
+    }
+
+    @DisplayName("Given csv accept header, when export employees, then stream csv rows.")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenCsvAcceptHeader_whenExportEmployees_thenStreamCsvRows() throws Exception {
+        BDDMockito.willAnswer(invocation -> {
+            ((Consumer<Employee>) invocation.getArgument(0)).accept(saved);
+            return null;
+        }).given(employeeService).exportAll(ArgumentMatchers.any());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(baseUri + "/export")
+            .accept("text/csv"))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+            .andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(MockMvcResultMatchers.content().string("id,firstName,lastName,email,cellphone\n"
+                + id + ",João Gabriel,Carvalho,27.joaogabriel@gmail.com,14 999999999\n"));
+    }
+
+    @DisplayName("Given ndjson accept header, when export employees, then stream one json object per line.")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenNdjsonAcceptHeader_whenExportEmployees_thenStreamJsonLines() throws Exception {
+        BDDMockito.willAnswer(invocation -> {
+            ((Consumer<Employee>) invocation.getArgument(0)).accept(saved);
+            ((Consumer<Employee>) invocation.getArgument(0)).accept(updated);
+            return null;
+        }).given(employeeService).exportAll(ArgumentMatchers.any());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(baseUri + "/export")
+            .accept("application/x-ndjson"))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.content().string(objectMapper.writeValueAsString(saved) + "\n"
+                + objectMapper.writeValueAsString(updated) + "\n"));
+    }
+
+    @DisplayName("Given name prefix, when search employees, then return matching employees.")
+    @Test
+    public void givenNamePrefix_whenSearchEmployees_thenReturnMatchingEmployees() throws Exception {
+        BDDMockito.given(employeeService.search(ArgumentMatchers.eq("João"), ArgumentMatchers.eq("Carv"),
+                ArgumentMatchers.eq(true), ArgumentMatchers.any(PageRequest.class)))
+            .willReturn(List.of(EmployeeResponse.of(saved)));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.get(baseUri + "/search")
+            .param("firstName", "João")
+            .param("lastName", "Carv")
+            .param("prefix", "true"));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(id.toString())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].searchLastName").doesNotExist());
+    }
+
+    @DisplayName("Given typed prefix, when suggest employees, then return matching suggestions.")
+    @Test
+    public void givenTypedPrefix_whenSuggestEmployees_thenReturnMatchingSuggestions() throws Exception {
+        BDDMockito.given(employeeService.suggest("joão carv", 5)).willReturn(List.of(EmployeeSuggestionResponse.of(saved)));
+
+        ResultActions responseActions = mockMvc.perform(MockMvcRequestBuilders.get(baseUri + "/suggest")
+            .param("q", "joão carv")
+            .param("limit", "5"));
+
+        responseActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(id.toString())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].email", CoreMatchers.is(saved.getEmail())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].cellphone").doesNotExist());
+    }
+
     @DisplayName("Given existing id from database, when retrieve employeer by id, then return employeer object.")
     @Test
     public void givenExistingId_whenRetrieveEmployeerById_thenReturnEmployeeObject() throws Exception {
         BDDMockito.given(employeeService.findById(ArgumentMatchers.any(UUID.class)))
-            .willReturn(saved);
+            .willReturn(EmployeeResponse.of(saved));
 
         ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", id)
             .contentType(MediaType.APPLICATION_JSON));
@@ -140,6 +392,61 @@ public class EmployeeControllerTest {
             .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is(saved.getFirstName())));
     }
 
+    @DisplayName("Given id list, when lookup employees, then return found employees and missing ids.")
+    @Test
+    public void givenIdList_whenLookupEmployees_thenReturnFoundAndMissing() throws Exception {
+        UUID missing = UUID.randomUUID();
+        BDDMockito.given(employeeService.findAllById(ArgumentMatchers.<UUID>anyList()))
+            .willReturn(new EmployeeLookupResponse(List.of(EmployeeResponse.of(saved)), List.of(missing)));
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post(baseUri + "/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(List.of(id, missing))));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.found[0].id", CoreMatchers.is(id.toString())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.missing[0]", CoreMatchers.is(missing.toString())));
+    }
+
+    @DisplayName("Given matching If-None-Match, when retrieve employeer by id, then return not modified without body.")
+    @Test
+    public void givenMatchingIfNoneMatch_whenRetrieveEmployeerById_thenReturnNotModified() throws Exception {
+        BDDMockito.given(employeeService.findById(ArgumentMatchers.any(UUID.class)))
+            .willReturn(EmployeeResponse.of(saved));
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", id))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.header().string("ETag", "\"" + id + "-0\""))
+            .andReturn().getResponse().getHeader("ETag");
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", id)
+            .header("If-None-Match", eTag));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isNotModified())
+            .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @DisplayName("Given changed version, when retrieve employees with previous ETag, then return the new listing.")
+    @Test
+    public void givenChangedVersion_whenRetrieveEmployeesWithPreviousETag_thenReturnNewListing() throws Exception {
+        BDDMockito.given(employeeService.findAll(ArgumentMatchers.any(PageRequest.class)))
+            .willReturn(List.of(EmployeeResponse.of(saved)));
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get(baseUri))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(baseUri).header("If-None-Match", eTag))
+            .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        saved.setVersion(1L);
+        BDDMockito.given(employeeService.findAll(ArgumentMatchers.any(PageRequest.class)))
+            .willReturn(List.of(EmployeeResponse.of(saved)));
+        mockMvc.perform(MockMvcRequestBuilders.get(baseUri).header("If-None-Match", eTag))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$[0].version", CoreMatchers.is(1)));
+    }
+
     @DisplayName("Given invalid id, when retrieve employeer by id, must be throw ResourceNotFoundException")
     @Test
     public void givenInvalidgId_whenRetrieveEmployeerById_thenThrowResourceNotFoundException() throws Exception {
@@ -168,6 +475,34 @@ public class EmployeeControllerTest {
             .andExpect(MockMvcResultMatchers.status().isNoContent());
     }
 
+    @DisplayName("Given partial employee, when patch employeer, then return patched employee.")
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenReturnPatchedEmployee() throws Exception {
+        BDDMockito.given(employeeService.patch(ArgumentMatchers.eq(id), ArgumentMatchers.any(EmployeePatchRequest.class)))
+            .willReturn(updated);
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.patch(baseUri + "/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"lastName\":\"Carvalho Lopes da Cruz\",\"version\":0}"));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.lastName", CoreMatchers.is(updated.getLastName())));
+    }
+
+    @DisplayName("Given stale version, when patch employeer, then return conflict.")
+    @Test
+    public void givenStaleVersion_whenPatchEmployee_thenReturnConflict() throws Exception {
+        BDDMockito.given(employeeService.patch(ArgumentMatchers.eq(id), ArgumentMatchers.any(EmployeePatchRequest.class)))
+            .willThrow(new ResourceConflictException("Employee was modified by another request. Id: " + id));
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.patch(baseUri + "/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"cellphone\":\"14 988888888\",\"version\":0}"));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isConflict());
+    }
 
     @DisplayName("Given existing id, when delete employeer by id, then nothing.")
     @Test
@@ -180,6 +515,22 @@ public class EmployeeControllerTest {
             .andExpect(MockMvcResultMatchers.status().isNoContent());
     }
 
+    @DisplayName("Given id list, when delete employees in batch, then return deleted count.")
+    @Test
+    public void givenIdList_whenDeleteEmployeesInBatch_thenReturnDeletedCount() throws Exception {
+        BDDMockito.given(employeeService.deleteAll(ArgumentMatchers.<UUID>anyList()))
+            .willReturn(new BatchDeleteResponse(2, 1));
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.delete(baseUri + "/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(List.of(id, UUID.randomUUID()))));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.requested", CoreMatchers.is(2)))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(1)));
+    }
+
     @DisplayName("Given invalid id, when delete employeer by id, must be throw ResourceNotFoundException")
     @Test
     public void givenInvalidId_whenDeleteEmployeerById_thenThrowResourceNotFoundException() throws Exception {
@@ -193,4 +544,17 @@ public class EmployeeControllerTest {
             .andExpect(MockMvcResultMatchers.status().isBadRequest())
             .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Employeer not found.")));
     }
+
+    @DisplayName("Given overloaded service, when find employeer by id, then return service unavailable with retry after.")
+    @Test
+    public void givenOverloadedService_whenFindEmployeerById_thenReturnServiceUnavailable() throws Exception {
+        BDDMockito.given(employeeService.findById(ArgumentMatchers.any(UUID.class)))
+            .willThrow(new ServiceOverloadedException("Too many concurrent requests, try again later.", Duration.ofSeconds(2)));
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get(baseUri + "/{id}", id));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+            .andExpect(MockMvcResultMatchers.header().string("Retry-After", "2"));
+    }
 }
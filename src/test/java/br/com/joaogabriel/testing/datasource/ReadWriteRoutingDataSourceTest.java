@@ -0,0 +1,135 @@
+package br.com.joaogabriel.testing.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void setup() {
+        this.primary = database("primary");
+        this.replica = database("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(this.primary, List.of(this.replica)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWritesContext.end();
+        this.primary.shutdown();
+        this.replica.shutdown();
+    }
+
+    @DisplayName("Given read only transaction, when query, then replica is used.")
+    @Test
+    public void givenReadOnlyTransaction_whenQuery_thenReplicaIsUsed() {
+
+        Assertions.assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @DisplayName("Given read write transaction or no transaction, when query, then primary is used.")
+    @Test
+    public void givenReadWriteTransaction_whenQuery_thenPrimaryIsUsed() {
+
+        Assertions.assertThat(readWriteNode()).isEqualTo("primary");
+        Assertions.assertThat(node()).isEqualTo("primary");
+    }
+
+    @DisplayName("Given write in the same scope, when read only transaction, then primary is used.")
+    @Test
+    public void givenWriteInScope_whenReadOnlyTransaction_thenPrimaryIsUsed() {
+        AtomicInteger writes = new AtomicInteger();
+        ReadYourWritesContext.begin(0, writes::incrementAndGet);
+
+        Assertions.assertThat(readOnlyNode()).isEqualTo("replica");
+        this.readWrite.executeWithoutResult(status -> node());
+        this.readWrite.executeWithoutResult(status -> node());
+
+        Assertions.assertThat(readOnlyNode()).isEqualTo("primary");
+        Assertions.assertThat(writes.get()).isEqualTo(1);
+    }
+
+    @DisplayName("Given sticky window not expired, when read only transaction, then primary is used.")
+    @Test
+    public void givenStickyWindow_whenReadOnlyTransaction_thenPrimaryIsUsed() {
+        ReadYourWritesContext.begin(System.currentTimeMillis() + 60_000, () -> {});
+
+        Assertions.assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @DisplayName("Given request with write, when filter completes, then sticky cookie is returned.")
+    @Test
+    public void givenRequestWithWrite_whenFilter_thenStickyCookieIsReturned() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse servletResponse) {
+                readWrite.executeWithoutResult(status -> node());
+            }
+        };
+
+        new ReadYourWritesFilter(Duration.ofSeconds(5)).doFilter(new MockHttpServletRequest(), response, chain);
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        Assertions.assertThat(cookie).isNotNull();
+        Assertions.assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+        Assertions.assertThat(ReadYourWritesContext.isSticky()).isFalse();
+    }
+
+    private String readOnlyNode() {
+        return this.readOnly.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return this.readWrite.execute(status -> node());
+    }
+
+    private String node() {
+        return this.jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .setName(name + "-" + UUID.randomUUID())
+            .build();
+        new JdbcTemplate(database).execute("CREATE TABLE node (name VARCHAR(20))");
+        new JdbcTemplate(database).update("INSERT INTO node VALUES (?)", name);
+        return database;
+    }
+}
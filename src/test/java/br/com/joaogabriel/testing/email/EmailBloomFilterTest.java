@@ -0,0 +1,56 @@
+package br.com.joaogabriel.testing.email;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EmailBloomFilterTest {
+
+    private static final int CAPACITY = 10_000;
+
+    private EmailBloomFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        this.filter = new EmailBloomFilter(CAPACITY, 0.01);
+    }
+
+    @DisplayName("Given added emails, when check them, then every one of them might be contained.")
+    @Test
+    public void givenAddedEmails_whenCheckThem_thenNoneIsRuledOut() {
+        for (int i = 0; i < CAPACITY; i++) {
+            this.filter.add("employee" + i + "@company.com");
+        }
+
+        for (int i = 0; i < CAPACITY; i++) {
+            Assertions.assertThat(this.filter.mightContain("employee" + i + "@company.com")).isTrue();
+        }
+    }
+
+    @DisplayName("Given filter filled to capacity, when check absent emails, then false positive rate stays near the target.")
+    @Test
+    public void givenFilterAtCapacity_whenCheckAbsentEmails_thenFalsePositiveRateStaysNearTarget() {
+        for (int i = 0; i < CAPACITY; i++) {
+            this.filter.add("employee" + i + "@company.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < CAPACITY; i++) {
+            if (this.filter.mightContain("candidate" + i + "@company.com")) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertThat((double) falsePositives / CAPACITY).isLessThan(0.02);
+        Assertions.assertThat(this.filter.expectedFalsePositiveProbability()).isLessThan(0.02);
+    }
+
+    @DisplayName("Given empty filter, when check email, then it is ruled out and the bit set is sized from capacity.")
+    @Test
+    public void givenEmptyFilter_whenCheckEmail_thenRuledOut() {
+        Assertions.assertThat(this.filter.mightContain("27.joaogabriel@gmail.com")).isFalse();
+        Assertions.assertThat(this.filter.expectedFalsePositiveProbability()).isZero();
+        Assertions.assertThat(this.filter.sizeInBytes()).isBetween(11_000L, 13_000L);
+    }
+}
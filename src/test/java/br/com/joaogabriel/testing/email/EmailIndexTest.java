@@ -0,0 +1,82 @@
+package br.com.joaogabriel.testing.email;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private EmailIndex emailIndex;
+
+    @BeforeEach
+    public void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.emailIndex = new EmailIndex(this.employeeRepository, this.transactionManager, 1000, 0.01, this.meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.emailIndex.close();
+    }
+
+    @DisplayName("Given index not built yet, when check email, then it cannot be ruled out.")
+    @Test
+    public void givenIndexNotBuilt_whenCheckEmail_thenMightContain() {
+        Assertions.assertThat(this.emailIndex.mightContain("27.joaogabriel@gmail.com")).isTrue();
+    }
+
+    @DisplayName("Given index rebuilt from database, when check emails, then only absent ones are ruled out.")
+    @Test
+    public void givenIndexRebuilt_whenCheckEmails_thenOnlyAbsentOnesAreRuledOut() {
+        BDDMockito.given(this.employeeRepository.streamAllEmails()).willReturn(Stream.of("27.joaogabriel@gmail.com"));
+
+        this.emailIndex.rebuild();
+
+        Assertions.assertThat(this.emailIndex.mightContain("27.joaogabriel@gmail.com")).isTrue();
+        Assertions.assertThat(this.emailIndex.mightContain("someone.else@gmail.com")).isFalse();
+        Assertions.assertThat(this.meterRegistry.get("employee.email.index.entries").gauge().value()).isEqualTo(1);
+        Assertions.assertThat(this.meterRegistry.get("employee.email.index.lookups").tag("outcome", "definite_miss")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("Given employee created after rebuild, when check its email, then it is not ruled out.")
+    @Test
+    public void givenEmployeeCreatedAfterRebuild_whenCheckEmail_thenMightContain() {
+        BDDMockito.given(this.employeeRepository.streamAllEmails()).willReturn(Stream.empty());
+        this.emailIndex.rebuild();
+        Employee employee = new Employee.Builder().id(UUID.randomUUID())
+            .firstName("João Gabriel")
+            .lastName("Carvalho")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+
+        this.emailIndex.onEmployeeChanging(EmployeeChangedEvent.created(employee));
+
+        Assertions.assertThat(this.emailIndex.mightContain("27.joaogabriel@gmail.com")).isTrue();
+    }
+}
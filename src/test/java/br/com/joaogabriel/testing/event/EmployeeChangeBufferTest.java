@@ -0,0 +1,52 @@
+package br.com.joaogabriel.testing.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.joaogabriel.testing.model.response.EmployeeChangeResponse;
+
+public class EmployeeChangeBufferTest {
+
+    private EmployeeChangeBuffer buffer;
+
+    @BeforeEach
+    public void setup() {
+        this.buffer = new EmployeeChangeBuffer(3);
+    }
+
+    @DisplayName("Given appended changes, when readFrom last seen sequence, then returns following changes in order.")
+    @Test
+    public void givenAppendedChanges_whenReadFrom_thenReturnsFollowingChangesInOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        this.buffer.append(EmployeeChangeType.CREATED, first, null);
+        this.buffer.append(EmployeeChangeType.DELETED, second, null);
+
+        List<EmployeeChangeResponse> changes = this.buffer.readFrom(2, 10);
+
+        Assertions.assertThat(changes).hasSize(1);
+        Assertions.assertThat(changes.get(0).sequence()).isEqualTo(2L);
+        Assertions.assertThat(changes.get(0).type()).isEqualTo(EmployeeChangeType.DELETED);
+        Assertions.assertThat(changes.get(0).id()).isEqualTo(second);
+        Assertions.assertThat(this.buffer.readFrom(this.buffer.head(), 10)).isEmpty();
+    }
+
+    @DisplayName("Given overwritten changes, when readFrom evicted sequence, then returns null.")
+    @Test
+    public void givenOverwrittenChanges_whenReadFromEvictedSequence_thenReturnsNull() {
+        for (int i = 0; i < 5; i++) {
+            this.buffer.append(EmployeeChangeType.UPDATED, UUID.randomUUID(), null);
+        }
+
+        Assertions.assertThat(this.buffer.oldest()).isEqualTo(3L);
+        Assertions.assertThat(this.buffer.readFrom(2, 10)).isNull();
+        Assertions.assertThat(this.buffer.readFrom(3, 10))
+                .extracting(EmployeeChangeResponse::sequence)
+                .containsExactly(3L, 4L, 5L);
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.joaogabriel.testing.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EmployeeChangeFeedTest {
+
+    private EmployeeChangeFeed changeFeed;
+
+    @AfterEach
+    public void tearDown() {
+        this.changeFeed.close();
+    }
+
+    @DisplayName("Given last event id from this feed, when subscribe, then resume right after it.")
+    @Test
+    public void givenLastEventIdFromThisFeed_whenSubscribe_thenResumeAfterIt() {
+        this.changeFeed = new EmployeeChangeFeed(10, 2, new SimpleMeterRegistry());
+        RecordingEmitter first = new RecordingEmitter(null);
+        this.changeFeed.subscribe(null, first);
+        publish(3);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> first.events.size() == 3);
+
+        RecordingEmitter resumed = new RecordingEmitter(null);
+        this.changeFeed.subscribe(first.id(0), resumed);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> resumed.events.size() == 2);
+        Assertions.assertThat(resumed.id(0)).isEqualTo(first.id(1));
+        Assertions.assertThat(resumed.id(1)).isEqualTo(first.id(2));
+    }
+
+    @DisplayName("Given last event id from another boot or beyond the head, when subscribe, then send RESET.")
+    @Test
+    public void givenForeignOrFutureLastEventId_whenSubscribe_thenSendReset() {
+        this.changeFeed = new EmployeeChangeFeed(10, 2, new SimpleMeterRegistry());
+        RecordingEmitter first = new RecordingEmitter(null);
+        this.changeFeed.subscribe(null, first);
+        publish(1);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> first.events.size() == 1);
+        String epoch = first.id(0).substring(0, first.id(0).lastIndexOf('-'));
+
+        RecordingEmitter afterRestart = new RecordingEmitter(null);
+        RecordingEmitter beyondHead = new RecordingEmitter(null);
+        RecordingEmitter legacy = new RecordingEmitter(null);
+        this.changeFeed.subscribe("otherboot-1", afterRestart);
+        this.changeFeed.subscribe(epoch + "-5", beyondHead);
+        this.changeFeed.subscribe("1", legacy);
+
+        Assertions.assertThat(afterRestart.events).singleElement().asString().contains("event:RESET");
+        Assertions.assertThat(beyondHead.events).singleElement().asString().contains("event:RESET");
+        Assertions.assertThat(legacy.events).singleElement().asString().contains("event:RESET");
+    }
+
+    @DisplayName("Given subscriber falling behind the buffer, when it catches up, then it receives RESET.")
+    @Test
+    public void givenSubscriberFallingBehind_whenDrained_thenReceiveReset() {
+        this.changeFeed = new EmployeeChangeFeed(3, 2, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        this.changeFeed.subscribe(null, slow);
+        publish(1);
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> slow.sending);
+
+        publish(5);
+        release.countDown();
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> slow.events.size() == 2);
+        Assertions.assertThat(slow.events.get(1)).contains("event:RESET");
+    }
+
+    @DisplayName("Given slow subscriber, when changes are published, then writers and other subscribers are not blocked.")
+    @Test
+    public void givenSlowSubscriber_whenPublish_thenWritersAndOtherSubscribersAreNotBlocked() {
+        this.changeFeed = new EmployeeChangeFeed(1000, 2, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        this.changeFeed.subscribe(null, slow);
+        this.changeFeed.subscribe(null, fast);
+
+        long startedAt = System.nanoTime();
+        publish(100);
+        long elapsed = System.nanoTime() - startedAt;
+
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> fast.events.size() == 100);
+        Assertions.assertThat(TimeUnit.NANOSECONDS.toMillis(elapsed)).isLessThan(1000);
+        Assertions.assertThat(slow.events).isEmpty();
+        release.countDown();
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> slow.events.size() == 100);
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            this.changeFeed.onEmployeeChanged(EmployeeChangedEvent.deleted(UUID.randomUUID()));
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean sending;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            this.sending = true;
+            if (this.release != null) {
+                try {
+                    this.release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder event = new StringBuilder();
+            builder.build().forEach(part -> event.append(part.getData()));
+            this.events.add(event.toString());
+        }
+
+        private String id(int index) {
+            String event = this.events.get(index);
+            int start = event.indexOf("id:") + 3;
+            return event.substring(start, event.indexOf('\n', start));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.joaogabriel.testing.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
+
+public class IdempotencyStoreTest {
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    public void setup() {
+        this.idempotencyStore = new IdempotencyStore(Duration.ofMinutes(1), 100, Duration.ofSeconds(5));
+    }
+
+    @DisplayName("Given concurrent requests with same key, when execute, then action runs once and all receive its response.")
+    @Test
+    public void givenConcurrentRequestsWithSameKey_whenExecute_thenActionRunsOnce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> this.idempotencyStore.execute("key", "payload", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return ResponseEntity.status(HttpStatus.CREATED).body("created");
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<ResponseEntity<String>> future : futures) {
+                ResponseEntity<String> response = future.get(5, TimeUnit.SECONDS);
+                Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                Assertions.assertThat(response.getBody()).isEqualTo("created");
+            }
+            Assertions.assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("Given failed first attempt, when retried with same key, then action runs again.")
+    @Test
+    public void givenFailedFirstAttempt_whenRetried_thenActionRunsAgain() {
+        Assertions.assertThatThrownBy(() -> this.idempotencyStore.execute("key", "payload", () -> {
+            throw new ResourceAlreadyUsedException("Email unavailable!");
+        })).isInstanceOf(ResourceAlreadyUsedException.class);
+
+        ResponseEntity<String> response = this.idempotencyStore.execute("key", "payload",
+            () -> ResponseEntity.ok("created"));
+
+        Assertions.assertThat(response.getBody()).isEqualTo("created");
+        Assertions.assertThat(response.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @DisplayName("Given first attempt still running, when duplicate waits past the limit, then reject it as in progress.")
+    @Test
+    public void givenFirstAttemptStillRunning_whenDuplicateWaitsPastLimit_thenRejectAsInProgress() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(1), 100, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<String>> first = executor.submit(() -> store.execute("key", "payload", () -> {
+                started.countDown();
+                await(release);
+                return ResponseEntity.status(HttpStatus.CREATED).body("created");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            long startedAt = System.nanoTime();
+            Assertions.assertThatThrownBy(() -> store.execute("key", "payload", () -> ResponseEntity.ok("duplicate")))
+                .isInstanceOf(ResourceConflictException.class)
+                .hasMessageContaining("still in progress");
+            Assertions.assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2000);
+
+            release.countDown();
+            Assertions.assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("created");
+            Assertions.assertThat(store.execute("key", "payload", () -> ResponseEntity.ok("duplicate")).getBody())
+                .isEqualTo("created");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
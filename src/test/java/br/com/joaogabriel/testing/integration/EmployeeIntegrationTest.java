@@ -13,6 +13,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
@@ -34,8 +35,9 @@ import com.jayway.jsonpath.JsonPath;
 import br.com.joaogabriel.testing.model.Employee;
 import br.com.joaogabriel.testing.repository.EmployeeRepository;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.reactive.port=0")
 @AutoConfigureWebMvc
+@AutoConfigureObservability(tracing = false)
 @TestMethodOrder(OrderAnnotation.class)
 @TestInstance(Lifecycle.PER_CLASS)
 public class EmployeeIntegrationTest {
@@ -128,9 +130,46 @@ public class EmployeeIntegrationTest {
             .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(id)));
     }
 
-    @DisplayName("Given existing id, when delete employeer by id, then nothing.")
+    @DisplayName("Given current version, when patch employeer, then update only supplied fields and bump version.")
     @Test
     @Order(5)
+    public void givenCurrentVersion_whenPatchEmployee_thenUpdateFieldsAndBumpVersion() throws Exception {
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/employees/{id}", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"cellphone\":\"14 988888888\",\"version\":0}"));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.cellphone", CoreMatchers.is("14 988888888")))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is(employee.getFirstName())))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(1)));
+    }
+
+    @DisplayName("Given stale version, when update employeer, must return conflict instead of losing the update.")
+    @Test
+    @Order(6)
+    public void givenStaleVersion_whenUpdateEmployee_thenReturnConflict() throws Exception {
+        Employee stale = new Employee.Builder()
+            .id(UUID.fromString(id))
+            .firstName("João Gabriel")
+            .lastName("Carvalho")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 977777777")
+            .version(0)
+            .build();
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.put(baseUri)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(stale)));
+
+        resultActions.andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isConflict());
+    }
+
+    @DisplayName("Given existing id, when delete employeer by id, then nothing.")
+    @Test
+    @Order(7)
     public void givenExistingId_whenDeleteEmployeerById_thenNothing() throws Exception {
     
         ResultActions resultActions = 
@@ -142,7 +181,7 @@ public class EmployeeIntegrationTest {
 
     @DisplayName("Given invalid id, when retrieve employeer by id, must be throw ResourceNotFoundException")
     @Test
-    @Order(6)
+    @Order(8)
     public void givenInvalidgId_whenRetrieveEmployeerById_thenThrowResourceNotFoundException() throws Exception {
 
         String id = UUID.randomUUID().toString();
@@ -156,7 +195,7 @@ public class EmployeeIntegrationTest {
 
     @DisplayName("Given invalid id, when delete employeer by id, must be throw ResourceNotFoundException")
     @Test
-    @Order(7)
+    @Order(9)
     public void givenInvalidId_whenDeleteEmployeerById_thenThrowResourceNotFoundException() throws Exception {
         
         String id = UUID.randomUUID().toString();
@@ -167,4 +206,71 @@ public class EmployeeIntegrationTest {
             .andExpect(MockMvcResultMatchers.status().isBadRequest())
             .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Employee not found into database. Id: " + id)));
     }
+
+    @DisplayName("Given instrumented service, when scrape prometheus endpoint, then expose service timers and conflict counters.")
+    @Test
+    @Order(10)
+    public void givenInstrumentedService_whenScrapePrometheus_thenExposeServiceMetrics() throws Exception {
+
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"));
+
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("employee_service_seconds_bucket")))
+            .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("employee_email_conflicts_total 1.0")))
+            .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("spring_data_repository_invocations_seconds_bucket")))
+            .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("hikaricp_connections_saturation")))
+            .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("employee_concurrency_limit{operation=\"read\"")))
+            .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("hibernate_second_level_cache_requests_total")));
+    }
+
+    @DisplayName("Given email, when upsert employee by email twice, then create once and update the same employee.")
+    @Test
+    @Order(11)
+    public void givenEmail_whenUpsertEmployeeByEmailTwice_thenCreateThenUpdate() throws Exception {
+        String email = "upsert.joaogabriel@gmail.com";
+
+        MvcResult created = mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/employees/by-email/{email}", email)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+            .andExpect(MockMvcResultMatchers.status().isCreated())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.email", CoreMatchers.is(email)))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(0)))
+            .andReturn();
+        String upsertedId = JsonPath.parse(created.getResponse().getContentAsString()).read("$.id");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", upsertedId))
+            .andExpect(MockMvcResultMatchers.status().isOk());
+
+        employee.setCellphone("14 944444444");
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/employees/by-email/{email}", email)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(upsertedId)))
+            .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(1)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", upsertedId))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.cellphone", CoreMatchers.is("14 944444444")));
+    }
+
+    @DisplayName("Given email taken by another employee, when update employeer with it, then return email unavailable instead of a server error.")
+    @Test
+    @Order(12)
+    public void givenEmailTakenByAnotherEmployee_whenUpdateEmployee_thenReturnEmailUnavailable() throws Exception {
+        MvcResult created = mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/employees/by-email/{email}", "other.joaogabriel@gmail.com")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+            .andExpect(MockMvcResultMatchers.status().isCreated())
+            .andReturn();
+        employee.setId(UUID.fromString(JsonPath.parse(created.getResponse().getContentAsString()).read("$.id")));
+        employee.setEmail("upsert.joaogabriel@gmail.com");
+
+        mockMvc.perform(MockMvcRequestBuilders.put(baseUri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+            .andDo(MockMvcResultHandlers.print())
+            .andExpect(MockMvcResultMatchers.status().isBadRequest())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Email unavailable!")));
+    }
 }
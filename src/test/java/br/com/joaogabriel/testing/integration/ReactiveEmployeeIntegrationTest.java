@@ -0,0 +1,176 @@
+package br.com.joaogabriel.testing.integration;
+
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.jayway.jsonpath.JsonPath;
+
+import br.com.joaogabriel.testing.config.ReactiveWebServer;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.repository.EmployeeRepository;
+import br.com.joaogabriel.testing.transfer.EmployeeFormat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.reactive.port=0")
+@AutoConfigureWebMvc
+@AutoConfigureObservability(tracing = false)
+@TestMethodOrder(OrderAnnotation.class)
+@TestInstance(Lifecycle.PER_CLASS)
+public class ReactiveEmployeeIntegrationTest {
+
+    private MockMvc mockMvc;
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReactiveWebServer reactiveWebServer;
+
+    private Employee employee;
+    private String id;
+
+    private final String baseUri = "/api/v1/reactive/employees";
+
+    @BeforeEach
+    public void setup(WebApplicationContext webApplicationContext) {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        this.webTestClient = WebTestClient.bindToServer()
+            .baseUrl("http://localhost:" + this.reactiveWebServer.getPort())
+            .build();
+
+        this.employee = new Employee.Builder()
+            .firstName("Maria")
+            .lastName("Reativa")
+            .email("maria.reativa@gmail.com")
+            .cellphone("14 966666666")
+            .build();
+    }
+
+    @AfterAll
+    public void cleanup() {
+        this.employeeRepository.deleteAll();
+    }
+
+    @DisplayName("Given employee object, when save employee reactively, then it is readable through the MVC API.")
+    @Test
+    @Order(1)
+    public void givenEmployeeObject_whenSaveEmployee_thenReadableThroughMvcApi() throws Exception {
+        byte[] body = this.webTestClient.post().uri(baseUri)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(employee)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().exists("ETag")
+            .expectBody().returnResult().getResponseBody();
+        this.id = JsonPath.parse(new String(body)).read("$.id");
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", id))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$.email", CoreMatchers.is(employee.getEmail())));
+    }
+
+    @DisplayName("Given employee object with used email, when save employee reactively, then return Email unavailable!")
+    @Test
+    @Order(2)
+    public void givenUsedEmail_whenSaveEmployee_thenReturnEmailUnavailable() {
+        this.webTestClient.post().uri(baseUri)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(employee)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.message").isEqualTo("Email unavailable!");
+    }
+
+    @DisplayName("Given saved employees, when stream all employees as NDJSON, then return one line per employee.")
+    @Test
+    @Order(3)
+    public void givenSavedEmployees_whenStreamAllEmployees_thenReturnNdjson() {
+        this.webTestClient.get().uri(uri -> uri.path(baseUri).queryParam("size", 10).build())
+            .accept(MediaType.parseMediaType(EmployeeFormat.NDJSON_VALUE))
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(EmployeeFormat.NDJSON_VALUE)
+            .expectBody(String.class).value(CoreMatchers.containsString("\"id\":\"" + id + "\""));
+    }
+
+    @DisplayName("Given unknown sort property, when stream all employees, then return bad request.")
+    @Test
+    @Order(4)
+    public void givenUnknownSortProperty_whenStreamAllEmployees_thenReturnBadRequest() {
+        this.webTestClient.get().uri(uri -> uri.path(baseUri).queryParam("sort", "cellphone").build())
+            .accept(MediaType.parseMediaType(EmployeeFormat.NDJSON_VALUE))
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @DisplayName("Given stale version, when update employee reactively, then return conflict.")
+    @Test
+    @Order(5)
+    public void givenStaleVersion_whenUpdateEmployee_thenReturnConflict() {
+        Employee current = new Employee.Builder()
+            .id(UUID.fromString(id))
+            .firstName("Maria")
+            .lastName("Reativa")
+            .email("maria.reativa@gmail.com")
+            .cellphone("14 955555555")
+            .version(0)
+            .build();
+
+        this.webTestClient.put().uri(baseUri)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(current)
+            .exchange()
+            .expectStatus().isNoContent();
+
+        this.webTestClient.put().uri(baseUri)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(current)
+            .exchange()
+            .expectStatus().isEqualTo(409);
+    }
+
+    @DisplayName("Given existing id, when delete employee reactively, then it is gone from the MVC API.")
+    @Test
+    @Order(6)
+    public void givenExistingId_whenDeleteEmployee_thenGoneFromMvcApi() throws Exception {
+        this.webTestClient.delete().uri(baseUri + "/{id}", id)
+            .exchange()
+            .expectStatus().isNoContent();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employees/{id}", id))
+            .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @DisplayName("Given reactive routes, when requested through the servlet stack, then they are not mapped there.")
+    @Test
+    @Order(7)
+    public void givenReactiveRoutes_whenRequestedThroughServletStack_thenNotMapped() throws Exception {
+        int status = this.mockMvc.perform(MockMvcRequestBuilders.get(baseUri))
+            .andReturn().getResponse().getStatus();
+
+        Assertions.assertThat(status).isNotEqualTo(200);
+        Assertions.assertThat(this.reactiveWebServer.isRunning()).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.joaogabriel.testing.limiter;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.joaogabriel.testing.exception.ServiceOverloadedException;
+import br.com.joaogabriel.testing.handler.TestingGlobalHandler;
+
+public class ConcurrencyLimitInterceptorTest {
+
+    private AdaptiveLimiter readLimiter;
+    private AdaptiveLimiter writeLimiter;
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    public void setup() {
+        this.readLimiter = new AdaptiveLimiter(2, 1, 4, Duration.ofMillis(100));
+        this.writeLimiter = new AdaptiveLimiter(1, 1, 4, Duration.ofMillis(100));
+        this.interceptor = new ConcurrencyLimitInterceptor(this.readLimiter, this.writeLimiter, Duration.ofSeconds(1));
+    }
+
+    @DisplayName("Given limit reached, when new request arrives, then reject with service overloaded.")
+    @Test
+    public void givenLimitReached_whenNewRequest_thenRejectWithServiceOverloaded() {
+        this.interceptor.preHandle(request("POST"), new MockHttpServletResponse(), null);
+
+        Assertions.assertThatThrownBy(() -> this.interceptor.preHandle(request("PUT"), new MockHttpServletResponse(), null))
+            .isInstanceOf(ServiceOverloadedException.class);
+        Assertions.assertThat(this.interceptor.preHandle(request("GET"), new MockHttpServletResponse(), null)).isTrue();
+        Assertions.assertThat(this.writeLimiter.getRejected()).isEqualTo(1);
+        Assertions.assertThat(this.readLimiter.getInFlight()).isEqualTo(1);
+    }
+
+    @DisplayName("Given completed request, when after completion, then permit is released.")
+    @Test
+    public void givenCompletedRequest_whenAfterCompletion_thenPermitIsReleased() throws Exception {
+        MockHttpServletRequest request = request("DELETE");
+        this.interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        this.interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        this.interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        Assertions.assertThat(this.writeLimiter.getInFlight()).isZero();
+    }
+
+    @DisplayName("Given fast saturated requests, when released, then limit increases additively.")
+    @Test
+    public void givenFastSaturatedRequests_whenReleased_thenLimitIncreases() {
+        this.readLimiter.tryAcquire();
+        this.readLimiter.tryAcquire();
+
+        this.readLimiter.release(Duration.ofMillis(5).toNanos(), false);
+
+        Assertions.assertThat(this.readLimiter.getLimit()).isEqualTo(3);
+    }
+
+    @DisplayName("Given slow requests, when released, then limit decreases multiplicatively down to the minimum.")
+    @Test
+    public void givenSlowRequests_whenReleased_thenLimitDecreases() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(20, 2, 40, Duration.ofMillis(100));
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(Duration.ofMillis(500).toNanos(), false);
+        }
+
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(2);
+        Assertions.assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @DisplayName("Given request failing behind the global handler, when completed, then limit backs off.")
+    @Test
+    public void givenRequestFailingBehindGlobalHandler_whenCompleted_thenLimitBacksOff() throws Exception {
+        // Generous latency target so only the response status can trigger a back off.
+        AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 8, Duration.ofSeconds(30));
+        MockMvc mockMvc = mockMvc(limiter);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/employees"))
+            .andExpect(MockMvcResultMatchers.status().isCreated());
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(4);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/employees").param("fail", "true"))
+            .andExpect(MockMvcResultMatchers.status().isInternalServerError());
+        Assertions.assertThat(limiter.getLimit()).isLessThan(4);
+        Assertions.assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static MockMvc mockMvc(AdaptiveLimiter limiter) {
+        return MockMvcBuilders.standaloneSetup(new TestController())
+            .setControllerAdvice(new TestingGlobalHandler())
+            .addInterceptors(new ConcurrencyLimitInterceptor(limiter, limiter, Duration.ofSeconds(1)))
+            .build();
+    }
+
+    @RestController
+    private static class TestController {
+
+        @PostMapping("/api/v1/employees")
+        @ResponseStatus(HttpStatus.CREATED)
+        public void save(@RequestParam(defaultValue = "false") boolean fail) {
+            if (fail) {
+                throw new IllegalStateException("Connection is not available, request timed out.");
+            }
+        }
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/v1/employees");
+    }
+}
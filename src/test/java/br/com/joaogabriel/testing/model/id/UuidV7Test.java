@@ -0,0 +1,38 @@
+package br.com.joaogabriel.testing.model.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7Test {
+
+    @DisplayName("Given ids generated in the same millisecond, when compare them, then they are strictly increasing.")
+    @Test
+    public void givenIdsInSameMillisecond_whenCompare_thenStrictlyIncreasing() {
+        long now = System.currentTimeMillis();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.of(now));
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            Assertions.assertThat(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(),
+                ids.get(i).getMostSignificantBits())).isNegative();
+        }
+        Assertions.assertThat(ids.get(0).getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(now);
+    }
+
+    @DisplayName("Given generated id, when read version and variant, then it is an RFC 9562 version 7 UUID.")
+    @Test
+    public void givenGeneratedId_whenReadVersionAndVariant_thenIsVersion7() {
+        UUID id = UuidV7.next();
+
+        Assertions.assertThat(id.version()).isEqualTo(7);
+        Assertions.assertThat(id.variant()).isEqualTo(2);
+        Assertions.assertThat(UUID.fromString(id.toString())).isEqualTo(id);
+    }
+}
@@ -4,15 +4,29 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.SearchKeys;
+import br.com.joaogabriel.testing.model.id.UuidV7;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import jakarta.persistence.EntityManagerFactory;
 
 @DataJpaTest
 public class EmployeeRepositoryTest {
@@ -20,6 +34,12 @@ public class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Employee employee;
 
     @BeforeEach
@@ -40,9 +60,36 @@ public class EmployeeRepositoryTest {
 
         Assertions.assertThat(saved).isNotNull();
         Assertions.assertThat(saved.getId()).isNotNull();
+        Assertions.assertThat(saved.getId().version()).isEqualTo(7);
         Assertions.assertThat(saved.getFirstName()).isEqualTo(employee.getFirstName());
     }
 
+    @DisplayName("Given unknown then known email, when upsert employee by email, then insert once and update the same row.")
+    @Test
+    public void givenEmail_whenUpsertEmployeeTwice_thenInsertThenUpdateSameRow() {
+        employee.setId(UuidV7.next());
+        EmployeeResponse inserted = employeeRepository.upsertByEmail(employee);
+
+        Employee changed = new Employee.Builder()
+            .id(UuidV7.next())
+            .firstName("João")
+            .lastName("Carvalho")
+            .email(employee.getEmail())
+            .cellphone("14 988888888")
+            .build();
+        EmployeeResponse updated = employeeRepository.upsertByEmail(changed);
+
+        Assertions.assertThat(inserted.id()).isEqualTo(employee.getId());
+        Assertions.assertThat(inserted.version()).isZero();
+        Assertions.assertThat(updated.id()).isEqualTo(inserted.id());
+        Assertions.assertThat(updated.version()).isEqualTo(1);
+        Assertions.assertThat(updated.cellphone()).isEqualTo("14 988888888");
+        Assertions.assertThat(employeeRepository.count()).isEqualTo(1);
+        Assertions.assertThat(employeeRepository.findByLastName(SearchKeys.normalize("Carvalho"), PageRequest.of(0, 10)))
+            .extracting(EmployeeResponse::firstName)
+            .containsExactly("João");
+    }
+
     @DisplayName("Given employee list, when retrieve all employes, then return all employees persisted into database.")
     @Test
     public void givenEmployeeList_whenRetrieveAllEmployess_thenReturnAllEmployeesPersisted() {
@@ -74,6 +121,36 @@ public class EmployeeRepositoryTest {
         Assertions.assertThat(result.get(1)).isEqualTo(employees.get(1));
     }
 
+    @DisplayName("Given employee list, when retrieve pages by keyset, then return employees ordered by last name, first name and id.")
+    @Test
+    public void givenEmployeeList_whenRetrievePagesByKeyset_thenReturnOrderedEmployees() {
+        Employee first = employeeRepository.save(new Employee.Builder()
+            .firstName("Laís Mansano").lastName("Pereira").email("lais@gmail.com").cellphone("14 999999999").build());
+        Employee second = employeeRepository.save(employee);
+        Employee third = employeeRepository.save(new Employee.Builder()
+            .firstName("Ana").lastName("Pereira").email("ana@gmail.com").cellphone("14 999999999").build());
+
+        Slice<EmployeeResponse> firstPage = employeeRepository.findFirstPage(PageRequest.ofSize(2));
+        EmployeeResponse last = firstPage.getContent().get(1);
+        Slice<EmployeeResponse> secondPage = employeeRepository.findPageAfter(last.lastName(), last.firstName(),
+            last.id(), PageRequest.ofSize(2));
+
+        Assertions.assertThat(firstPage.getContent()).extracting(EmployeeResponse::id).containsExactly(second.getId(), third.getId());
+        Assertions.assertThat(firstPage.hasNext()).isTrue();
+        Assertions.assertThat(secondPage.getContent()).extracting(EmployeeResponse::id).containsExactly(first.getId());
+        Assertions.assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @DisplayName("Given employees persisted into database, when stream all employees, then return every employee.")
+    @Test
+    public void givenEmployeesPersisted_whenStreamAllEmployees_thenReturnEveryEmployee() {
+        Employee saved = employeeRepository.save(employee);
+
+        try (Stream<Employee> result = employeeRepository.streamAll()) {
+            Assertions.assertThat(result).containsExactly(saved);
+        }
+    }
+
     @DisplayName("Given existing id into database, when find employee by id, must be return employee object.")
     @Test
     public void givenExistingValidId_whenFindEmployeeById_thenReturnEmployee() {
@@ -101,6 +178,28 @@ public class EmployeeRepositoryTest {
         
     }
 
+    @DisplayName("Given existing emails into database, when find existing emails, must return only the persisted ones.")
+    @Test
+    public void givenExistingEmails_whenFindExistingEmails_thenReturnPersistedEmails() {
+
+        Employee saved = employeeRepository.save(employee);
+
+        List<String> result = employeeRepository.findExistingEmails(List.of(saved.getEmail(), "lais@gmail.com"));
+
+        Assertions.assertThat(result).containsExactly(saved.getEmail());
+    }
+
+    @DisplayName("Given existing ids into database, when find projections by ids, must return only the persisted ones.")
+    @Test
+    public void givenExistingIds_whenFindProjectedByIds_thenReturnPersistedEmployees() {
+
+        Employee saved = employeeRepository.save(employee);
+
+        List<EmployeeResponse> result = employeeRepository.findProjectedByIdIn(List.of(saved.getId(), UUID.randomUUID()));
+
+        Assertions.assertThat(result).extracting(EmployeeResponse::id).containsExactly(saved.getId());
+    }
+
     @DisplayName("Given employeed persisted into database, when update object, then return updated object.")
     @Test
     public void givenEmployeePersisted_whenUpdateObject_thenReturnEmployeedUpdated() {
@@ -136,6 +235,26 @@ public class EmployeeRepositoryTest {
         employeeRepository.delete(saved);
     }
 
+    @DisplayName("Given existing employees, when delete by ids, then return affected rows.")
+    @Test
+    public void givenExistingEmployees_whenDeleteByIds_thenReturnAffectedRows() {
+
+        Employee saved = employeeRepository.save(employee);
+
+        Assertions.assertThat(employeeRepository.deleteEmployeesByIdIn(List.of(saved.getId(), UUID.randomUUID()))).isEqualTo(1);
+        Assertions.assertThat(employeeRepository.deleteEmployeeById(saved.getId())).isZero();
+    }
+
+    @DisplayName("Given existing and missing ids, when delete existing by ids, then return only removed ids.")
+    @Test
+    public void givenExistingAndMissingIds_whenDeleteExistingByIds_thenReturnRemovedIds() {
+        Employee saved = employeeRepository.saveAndFlush(employee);
+
+        Assertions.assertThat(employeeRepository.deleteExistingByIdIn(List.of(saved.getId(), UUID.randomUUID())))
+            .containsExactly(saved.getId());
+        Assertions.assertThat(employeeRepository.deleteExistingByIdIn(List.of(saved.getId()))).isEmpty();
+    }
+
     @DisplayName("Given existing employee persisted into database, when search by first name and last name, must return employee object.")
     @Test
     public void givenExistingEmployee_whenValidFirstNameAndLastName_thenReturnEmployeeObject() {
@@ -151,12 +270,72 @@ public class EmployeeRepositoryTest {
 
         Employee saved = employeeRepository.save(employee);
 
-        Employee result = employeeRepository.findByFullname(firstName, lastName);
+        Slice<EmployeeResponse> result = employeeRepository.findByFullname(SearchKeys.normalize(firstName),
+            SearchKeys.normalize(lastName), PageRequest.ofSize(10));
 
-        Assertions.assertThat(result).isNotNull();
-        Assertions.assertThat(saved.getFirstName()).isEqualTo(result.getFirstName());
-        Assertions.assertThat(saved.getLastName()).isEqualTo(result.getLastName());
+        Assertions.assertThat(result.getContent()).hasSize(1);
+        Assertions.assertThat(saved.getFirstName()).isEqualTo(result.getContent().get(0).firstName());
+        Assertions.assertThat(saved.getLastName()).isEqualTo(result.getContent().get(0).lastName());
 
     }
 
+    @DisplayName("Given employees sharing a name, when search by last name prefix ignoring case and accents, must return all of them.")
+    @Test
+    public void givenEmployeesSharingName_whenSearchByLastNamePrefix_thenReturnAllMatches() {
+        Employee first = employeeRepository.save(employee);
+        Employee second = employeeRepository.save(new Employee.Builder()
+            .firstName("João Gabriel").lastName("Carvalho").email("joao@gmail.com").cellphone("14 999999999").build());
+        employeeRepository.save(new Employee.Builder()
+            .firstName("Laís Mansano").lastName("Pereira").email("lais@gmail.com").cellphone("14 999999999").build());
+
+        String prefix = SearchKeys.normalize("CÁRV");
+        Slice<EmployeeResponse> result = employeeRepository.findByLastNamePrefix(prefix, SearchKeys.upperBound(prefix),
+            SearchKeys.likePattern(prefix), PageRequest.ofSize(10));
+
+        Assertions.assertThat(result.getContent()).extracting(EmployeeResponse::id)
+            .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @DisplayName("Given persisted employee, when retrieve projections, then return immutable responses without managed entities.")
+    @Test
+    public void givenPersistedEmployee_whenRetrieveProjections_thenReturnResponses() {
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Optional<EmployeeResponse> byId = employeeRepository.findProjectedById(saved.getId());
+        List<EmployeeResponse> page = employeeRepository.findAllProjectedBy(PageRequest.of(0, 1, Sort.by("firstName")));
+
+        Assertions.assertThat(byId).contains(EmployeeResponse.of(saved));
+        Assertions.assertThat(page).containsExactly(EmployeeResponse.of(saved));
+        // One query per lookup, the listing issues no count(*).
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        Assertions.assertThat(entityManager.getEntityManager().unwrap(Session.class)
+            .getStatistics().getEntityCount()).isZero();
+    }
+
+    @DisplayName("Given committed employee, when read by id and email across transactions, then second-level and query caches are hit.")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenCommittedEmployee_whenReadAcrossTransactions_thenCachesAreHit() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Employee saved = employeeRepository.save(employee);
+        try {
+            statistics.clear();
+
+            employeeRepository.findById(saved.getId());
+            employeeRepository.findById(saved.getId());
+            employeeRepository.findByEmail(saved.getEmail());
+            employeeRepository.findByEmail(saved.getEmail());
+
+            Assertions.assertThat(statistics.getDomainDataRegionStatistics(Employee.CACHE_REGION).getHitCount())
+                .isGreaterThanOrEqualTo(2);
+            Assertions.assertThat(statistics.getQueryRegionStatistics(Employee.EMAIL_QUERY_CACHE_REGION).getHitCount())
+                .isEqualTo(1);
+            Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        } finally {
+            employeeRepository.deleteAll();
+        }
+    }
 }
@@ -0,0 +1,203 @@
+package br.com.joaogabriel.testing.repository;
+
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.joaogabriel.testing.email.EmailIndex;
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
+import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.service.impl.ReactiveEmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEmployeeRepositoryTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private org.hibernate.Cache secondLevelCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailIndex emailIndex;
+
+    private ConnectionFactory connectionFactory;
+    private ReactiveEmployeeRepository employeeRepository;
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        this.connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        DatabaseClient databaseClient = DatabaseClient.create(this.connectionFactory);
+        databaseClient.sql("""
+            CREATE TABLE tb_employee (
+                id UUID NOT NULL PRIMARY KEY,
+                first_name VARCHAR(100) NOT NULL,
+                last_name VARCHAR(100) NOT NULL,
+                email VARCHAR(100) NOT NULL,
+                cellphone VARCHAR(255) NOT NULL,
+                version BIGINT NOT NULL,
+                search_first_name VARCHAR(100) NOT NULL,
+                search_last_name VARCHAR(100) NOT NULL,
+                CONSTRAINT uk_employee_email UNIQUE (email)
+            )
+            """).then().block();
+        this.employeeRepository = new ReactiveEmployeeRepository(databaseClient);
+        this.employee = employee("João Gabriel", "Carvalho", "27.joaogabriel@gmail.com");
+    }
+
+    @DisplayName("Given inserted employee, when find by id, then return stored columns.")
+    @Test
+    public void givenInsertedEmployee_whenFindById_thenReturnStoredColumns() {
+        StepVerifier.create(this.employeeRepository.insert(this.employee))
+            .expectNext(1L)
+            .verifyComplete();
+
+        StepVerifier.create(this.employeeRepository.findById(this.employee.getId()))
+            .expectNext(EmployeeResponse.of(this.employee))
+            .verifyComplete();
+    }
+
+    @DisplayName("Given stale version, when update, then no row changes and the current version wins.")
+    @Test
+    public void givenStaleVersion_whenUpdate_thenNoRowChanges() {
+        this.employeeRepository.insert(this.employee).block();
+        this.employee.setLastName("Silva");
+
+        StepVerifier.create(this.employeeRepository.update(this.employee))
+            .expectNext(1L)
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.update(this.employee))
+            .expectNext(0L)
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.findById(this.employee.getId()))
+            .assertNext(found -> {
+                Assertions.assertThat(found.lastName()).isEqualTo("Silva");
+                Assertions.assertThat(found.version()).isEqualTo(1L);
+            })
+            .verifyComplete();
+    }
+
+    @DisplayName("Given inserted employee, when delete by id twice, then only the first removes a row.")
+    @Test
+    public void givenInsertedEmployee_whenDeleteById_thenRemoveRowOnce() {
+        this.employeeRepository.insert(this.employee).block();
+
+        StepVerifier.create(this.employeeRepository.deleteById(this.employee.getId()))
+            .expectNext(1L)
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.deleteById(this.employee.getId()))
+            .expectNext(0L)
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.findById(this.employee.getId()))
+            .verifyComplete();
+    }
+
+    @DisplayName("Given several employees, when find all sorted, then apply whitelisted order and reject unknown properties.")
+    @Test
+    public void givenSeveralEmployees_whenFindAllSorted_thenApplyWhitelistedOrder() {
+        Employee maria = employee("Maria", "Almeida", "maria@company.com");
+        Employee ana = employee("Ana", "Barbosa", "ana@company.com");
+        this.employeeRepository.insert(this.employee).block();
+        this.employeeRepository.insert(maria).block();
+        this.employeeRepository.insert(ana).block();
+
+        StepVerifier.create(this.employeeRepository.findAll(PageRequest.of(0, 10)).map(EmployeeResponse::lastName))
+            .expectNext("Almeida", "Barbosa", "Carvalho")
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.findAll(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstName")))
+                .map(EmployeeResponse::firstName))
+            .expectNext("Maria", "João Gabriel")
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.findAll(PageRequest.of(0, 10, Sort.by("first_name; DROP TABLE tb_employee"))))
+            .expectError(InvalidRequestException.class)
+            .verify();
+    }
+
+    @DisplayName("Given used email, when exists by email, then ignore the employee's own row.")
+    @Test
+    public void givenUsedEmail_whenExistsByEmail_thenIgnoreOwnRow() {
+        this.employeeRepository.insert(this.employee).block();
+
+        StepVerifier.create(this.employeeRepository.existsByEmail(this.employee.getEmail(), null))
+            .expectNext(true)
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.existsByEmail(this.employee.getEmail(), this.employee.getId()))
+            .expectNext(false)
+            .verifyComplete();
+        StepVerifier.create(this.employeeRepository.insert(employee("Outro", "Nome", this.employee.getEmail())))
+            .expectError(DataIntegrityViolationException.class)
+            .verify();
+    }
+
+    @DisplayName("Given email taken by a concurrent insert, when save through the service, then return Email unavailable!")
+    @Test
+    public void givenEmailTakenConcurrently_whenSave_thenReturnEmailUnavailable() {
+        BDDMockito.given(this.entityManagerFactory.unwrap(SessionFactory.class)).willReturn(this.sessionFactory);
+        BDDMockito.given(this.sessionFactory.getCache()).willReturn(this.secondLevelCache);
+        // The bloom filter has not seen the concurrent insert, so only the unique constraint catches it.
+        BDDMockito.given(this.emailIndex.mightContain(ArgumentMatchers.any())).willReturn(false);
+        ReactiveEmployeeServiceImpl employeeService = new ReactiveEmployeeServiceImpl(this.employeeRepository,
+            TransactionalOperator.create(new R2dbcTransactionManager(this.connectionFactory)), this.cacheManager,
+            this.entityManagerFactory, this.eventPublisher, this.emailIndex, new SimpleMeterRegistry());
+        this.employeeRepository.insert(this.employee).block();
+        Employee other = employee("Outro", "Nome", this.employee.getEmail());
+        other.setId(null);
+
+        StepVerifier.create(employeeService.save(other))
+            .expectErrorSatisfies(error -> Assertions.assertThat(error)
+                .isInstanceOf(ResourceAlreadyUsedException.class)
+                .hasMessage("Email unavailable!"))
+            .verify();
+
+        Employee stale = employee("João Gabriel", "Silva", this.employee.getEmail());
+        stale.setId(this.employee.getId());
+        stale.setVersion(5);
+        StepVerifier.create(employeeService.update(stale))
+            .expectError(ResourceConflictException.class)
+            .verify();
+    }
+
+    private static Employee employee(String firstName, String lastName, String email) {
+        return new Employee.Builder().id(UUID.randomUUID())
+            .firstName(firstName)
+            .lastName(lastName)
+            .email(email)
+            .cellphone("14 999999999")
+            .build();
+    }
+}
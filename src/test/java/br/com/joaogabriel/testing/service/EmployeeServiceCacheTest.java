@@ -0,0 +1,182 @@
+package br.com.joaogabriel.testing.service;
+
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import br.com.joaogabriel.testing.config.CacheConfig;
+import br.com.joaogabriel.testing.datasource.ReadYourWritesContext;
+import br.com.joaogabriel.testing.datasource.ReplicaLagGuard;
+import br.com.joaogabriel.testing.email.EmailIndex;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.repository.EmployeeRepository;
+import br.com.joaogabriel.testing.service.impl.EmployeeServiceImpl;
+import br.com.joaogabriel.testing.suggest.SuggestionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+@SpringJUnitConfig({ CacheConfig.class, EmployeeServiceImpl.class, ReplicaLagGuard.class, SimpleMeterRegistry.class,
+    EmployeeServiceCacheTest.Conversions.class })
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+@TestPropertySource(properties = {
+    "spring.cache.type=caffeine",
+    "spring.cache.cache-names=employees",
+    "spring.cache.caffeine.spec=maximumSize=100,recordStats",
+    "app.datasource.replicas[0].url=jdbc:h2:mem:replica",
+    "app.datasource.read-your-writes-window=5s"
+})
+public class EmployeeServiceCacheTest {
+
+    @Configuration
+    static class Conversions {
+
+        @Bean
+        public ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private EmailIndex emailIndex;
+
+    @MockBean
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Employee saved;
+    private UUID id;
+
+    @BeforeEach
+    public void setup() {
+        this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).clear();
+        this.id = UUID.randomUUID();
+        this.saved = new Employee.Builder().id(id)
+            .firstName("João Gabriel")
+            .lastName("Carvalho")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+    }
+
+    @DisplayName("Given cached employee, when retrieve employee by id again, then database is not queried.")
+    @Test
+    public void givenCachedEmployee_whenRetrieveEmployeeByIdAgain_thenDatabaseIsNotQueried() {
+        BDDMockito.given(employeeRepository.findProjectedById(id)).willReturn(Optional.of(EmployeeResponse.of(saved)));
+
+        this.employeeService.findById(id);
+        EmployeeResponse employee = this.employeeService.findById(id);
+
+        Assertions.assertThat(employee).isEqualTo(EmployeeResponse.of(saved));
+        Mockito.verify(employeeRepository, times(1)).findProjectedById(id);
+    }
+
+    @DisplayName("Given cached employee, when lookup employees by ids, then only uncached ids are queried and cached.")
+    @Test
+    public void givenCachedEmployee_whenLookupEmployees_thenOnlyUncachedIdsAreQueried() {
+        UUID other = UUID.randomUUID();
+        EmployeeResponse otherEmployee = new EmployeeResponse(other, "Lais", "Carvalho", "lais@gmail.com", "14 988888888", 0);
+        BDDMockito.given(employeeRepository.findProjectedById(id)).willReturn(Optional.of(EmployeeResponse.of(saved)));
+        BDDMockito.given(employeeRepository.findProjectedByIdIn(List.of(other))).willReturn(List.of(otherEmployee));
+        this.employeeService.findById(id);
+
+        this.employeeService.findAllById(List.of(id, other));
+        EmployeeResponse employee = this.employeeService.findById(other);
+
+        Assertions.assertThat(employee).isEqualTo(otherEmployee);
+        Mockito.verify(employeeRepository, times(1)).findProjectedByIdIn(List.of(other));
+        Mockito.verify(employeeRepository, Mockito.never()).findProjectedById(other);
+    }
+
+    @DisplayName("Given cached employee, when delete employee, then next read goes to the database.")
+    @Test
+    public void givenCachedEmployee_whenDeleteEmployee_thenCacheEntryIsEvicted() {
+        BDDMockito.given(employeeRepository.findProjectedById(id)).willReturn(Optional.of(EmployeeResponse.of(saved)));
+        BDDMockito.given(employeeRepository.deleteEmployeeById(id)).willReturn(1);
+        this.employeeService.findById(id);
+
+        this.employeeService.delete(id);
+
+        Assertions.assertThat(this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(id)).isNull();
+    }
+
+    @DisplayName("Given cached employee, when update employee, then next read returns the updated employee.")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenCacheEntryIsEvicted() {
+        Employee updated = new Employee.Builder().id(id)
+            .firstName("João Gabriel")
+            .lastName("Carvalho Lopes da Cruz")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+        BDDMockito.given(employeeRepository.findProjectedById(id))
+            .willReturn(Optional.of(EmployeeResponse.of(saved)), Optional.of(EmployeeResponse.of(updated)));
+        BDDMockito.given(employeeRepository.saveAndFlush(ArgumentMatchers.any(Employee.class))).willReturn(updated);
+        this.employeeService.findById(id);
+
+        this.employeeService.update(updated);
+
+        Assertions.assertThat(this.employeeService.findById(id).lastName()).isEqualTo("Carvalho Lopes da Cruz");
+        Mockito.verify(employeeRepository, times(2)).findProjectedById(id);
+    }
+
+    @DisplayName("Given recent write and lagging replica, when non-sticky read precedes sticky read, then stale row is neither cached nor served to the writer.")
+    @Test
+    public void givenRecentWriteAndLaggingReplica_whenNonStickyThenStickyRead_thenStaleRowIsNotCached() {
+        Employee updated = new Employee.Builder().id(id)
+            .firstName("João Gabriel")
+            .lastName("Carvalho Lopes da Cruz")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+        BDDMockito.given(employeeRepository.saveAndFlush(ArgumentMatchers.any(Employee.class))).willReturn(updated);
+        BDDMockito.given(employeeRepository.findProjectedById(id))
+            .willReturn(Optional.of(EmployeeResponse.of(saved)), Optional.of(EmployeeResponse.of(updated)));
+        this.employeeService.update(updated);
+
+        EmployeeResponse replicaRead = this.employeeService.findById(id);
+        EmployeeResponse stickyRead;
+        ReadYourWritesContext.begin(System.currentTimeMillis() + 5000, () -> {});
+        try {
+            stickyRead = this.employeeService.findById(id);
+        } finally {
+            ReadYourWritesContext.end();
+        }
+
+        Assertions.assertThat(replicaRead.lastName()).isEqualTo("Carvalho");
+        Assertions.assertThat(stickyRead.lastName()).isEqualTo("Carvalho Lopes da Cruz");
+        Assertions.assertThat(this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE).get(id)).isNull();
+    }
+}
@@ -3,12 +3,19 @@ package br.com.joaogabriel.testing.service;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,16 +25,46 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
+import br.com.joaogabriel.testing.config.CacheConfig;
+import br.com.joaogabriel.testing.datasource.ReplicaLagGuard;
+import br.com.joaogabriel.testing.email.EmailIndex;
+import br.com.joaogabriel.testing.event.EmployeeChangeType;
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.exception.InvalidRequestException;
 import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
 import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
 import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.EmployeeCursor;
+import br.com.joaogabriel.testing.model.request.EmployeePatchRequest;
+import br.com.joaogabriel.testing.model.response.BatchDeleteResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemResponse;
+import br.com.joaogabriel.testing.model.response.BatchItemStatus;
+import br.com.joaogabriel.testing.model.response.CursorPageResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeLookupResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.model.response.ImportReportResponse;
 import br.com.joaogabriel.testing.repository.EmployeeRepository;
 import br.com.joaogabriel.testing.service.impl.EmployeeServiceImpl;
+import br.com.joaogabriel.testing.suggest.SuggestionIndex;
+import br.com.joaogabriel.testing.transfer.EmployeeFormat;
+import br.com.joaogabriel.testing.transfer.EmployeeReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 @ExtendWith(MockitoExtension.class)
 public class EmployeeServiceTest {
@@ -35,6 +72,30 @@ public class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailIndex emailIndex;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EmployeeServiceImpl employeeService; //Must be implementation, not a interface.
 
@@ -44,6 +105,7 @@ public class EmployeeServiceTest {
 
     @BeforeEach
     public void setup() {
+        Mockito.lenient().when(emailIndex.mightContain(ArgumentMatchers.any())).thenReturn(true);
         this.id = UUID.randomUUID();
 
         this.employee = new Employee.Builder()
@@ -61,63 +123,274 @@ public class EmployeeServiceTest {
             .build();
     }
 
+    @DisplayName("Given email ruled out by the email index, when check email, then database is not queried.")
+    @Test
+    public void givenEmailRuledOutByIndex_whenCheckEmail_thenDatabaseIsNotQueried() {
+        BDDMockito.given(emailIndex.mightContain(employee.getEmail())).willReturn(false);
+
+        Assertions.assertThat(this.employeeService.isValidEmail(employee.getEmail())).isTrue();
+        Mockito.verify(employeeRepository, never()).findByEmail(Mockito.any());
+    }
+
+    @DisplayName("Given oversized limit, when suggest employees, then index is asked for at most the maximum suggestions.")
+    @Test
+    public void givenOversizedLimit_whenSuggestEmployees_thenLimitIsCapped() {
+        BDDMockito.given(suggestionIndex.suggest("carv", 50)).willReturn(List.of(EmployeeSuggestionResponse.of(saved)));
+
+        Assertions.assertThat(this.employeeService.suggest("carv", 1000)).hasSize(1);
+        Assertions.assertThat(this.employeeService.suggest("  ", 10)).isEmpty();
+        Mockito.verify(suggestionIndex, times(1)).suggest(ArgumentMatchers.anyString(), ArgumentMatchers.anyInt());
+    }
+
     @DisplayName("Given employee object, when save employee, then return employee object persisted from database.")
     @Test
     public void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObjectPersisted() {
-        BDDMockito.given(employeeRepository.findByEmail(this.employee.getEmail()))
-            .willReturn(Optional.empty());
-
-        BDDMockito.given(employeeRepository.save(Mockito.any())).willReturn(this.saved);
+        BDDMockito.given(employeeRepository.saveAndFlush(Mockito.any())).willReturn(this.saved);
 
         Employee saved = this.employeeService.save(employee);
         Assertions.assertThat(saved).isNotNull();
         Assertions.assertThat(saved.getId()).isNotNull();
         Assertions.assertThat(saved.getFirstName()).isEqualTo(employee.getFirstName());
+        Mockito.verify(employeeRepository, never()).findByEmail(Mockito.any());
     }
 
     @DisplayName("Given employee object, when save employee with unavailable email, then throw ResourceAlreadyUsedException")
     @Test
     public void givenEmployeeObject_whenSaveEmployeeWithUnavailableEmail_thenThrowException() {
-        BDDMockito.given(employeeRepository.findByEmail(this.employee.getEmail()))
-            .willThrow(new ResourceAlreadyUsedException("Email Unavaible"));
+        BDDMockito.given(employeeRepository.saveAndFlush(Mockito.any()))
+            .willThrow(new DataIntegrityViolationException("duplicate key", new ConstraintViolationException(
+                "duplicate key", new SQLException("duplicate key", "23505"), Employee.EMAIL_CONSTRAINT)));
         
         Throwable throwable = Assertions.catchThrowable(() -> {
             employeeService.save(this.employee);
         });
 
         org.junit.jupiter.api.Assertions.assertThrows(ResourceAlreadyUsedException.class, () -> employeeService.save(employee)); //Another way
-        Mockito.verify(employeeRepository, never()).save(Mockito.any());
+        Mockito.verify(employeeRepository, never()).findByEmail(Mockito.any());
+        Mockito.verify(eventPublisher, never()).publishEvent(Mockito.any());
 
-        Assertions.assertThat(throwable).isInstanceOf(ResourceAlreadyUsedException.class);
-        
+        Assertions.assertThat(throwable).isInstanceOf(ResourceAlreadyUsedException.class)
+            .hasMessage("Email unavailable!");
+        Assertions.assertThat(meterRegistry.counter("employee.email.conflicts").count()).isEqualTo(2.0);
+    }
+
+    @DisplayName("Given known email, when upsert employee by email, then evict cached copies and publish an update.")
+    @Test
+    public void givenKnownEmail_whenUpsertEmployeeByEmail_thenEvictAndPublishUpdate() {
+        EntityManagerFactory entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = Mockito.mock(SessionFactory.class);
+        org.hibernate.Cache secondLevelCache = Mockito.mock(org.hibernate.Cache.class);
+        BDDMockito.given(entityManager.getEntityManagerFactory()).willReturn(entityManagerFactory);
+        BDDMockito.given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        BDDMockito.given(sessionFactory.getCache()).willReturn(secondLevelCache);
+        BDDMockito.given(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE)).willReturn(cache);
+        BDDMockito.given(employeeRepository.upsertByEmail(this.employee)).willReturn(new EmployeeResponse(id,
+            "João Gabriel", "Carvalho", "27.joaogabriel@gmail.com", "14 999999999", 2L));
+
+        EmployeeResponse upserted = this.employeeService.upsertByEmail("27.joaogabriel@gmail.com", this.employee);
+
+        Assertions.assertThat(upserted.id()).isEqualTo(id);
+        Assertions.assertThat(this.employee.getId()).isEqualTo(id);
+        Mockito.verify(cache).evict(id);
+        Mockito.verify(secondLevelCache).evictEntityData(Employee.class, id);
+        Mockito.verify(secondLevelCache).evictQueryRegion(Employee.EMAIL_QUERY_CACHE_REGION);
+        Mockito.verify(eventPublisher).publishEvent(ArgumentMatchers.<EmployeeChangedEvent>argThat(
+            event -> event.type() == EmployeeChangeType.UPDATED && id.equals(event.id())));
+        Mockito.verify(employeeRepository, never()).findByEmail(Mockito.any());
+    }
+
+    @DisplayName("Given employee batch, when save all employees, then reject unavailable and duplicated emails and persist the others.")
+    @Test
+    public void givenEmployeeBatch_whenSaveAllEmployees_thenReturnResultPerItem() {
+        Employee taken = new Employee.Builder()
+            .firstName("Laís Mansano")
+            .lastName("Pereira")
+            .email("lais@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+        Employee duplicated = new Employee.Builder()
+            .firstName("João")
+            .lastName("Carvalho")
+            .email(this.employee.getEmail())
+            .cellphone("14 999999999")
+            .build();
+
+        BDDMockito.given(employeeRepository.findExistingEmails(ArgumentMatchers.anyCollection()))
+            .willReturn(List.of(taken.getEmail()));
+        BDDMockito.given(employeeRepository.saveAll(ArgumentMatchers.<Employee>anyList()))
+            .willReturn(List.of(this.saved));
+
+        List<BatchItemResponse> results = this.employeeService.saveAll(List.of(this.employee, taken, duplicated));
+
+        Assertions.assertThat(results).hasSize(3);
+        Assertions.assertThat(results.get(0).status()).isEqualTo(BatchItemStatus.CREATED);
+        Assertions.assertThat(results.get(0).id()).isEqualTo(id);
+        Assertions.assertThat(results.get(1).status()).isEqualTo(BatchItemStatus.REJECTED);
+        Assertions.assertThat(results.get(1).message()).isEqualTo("Email unavailable!");
+        Assertions.assertThat(results.get(2).status()).isEqualTo(BatchItemStatus.REJECTED);
+        Assertions.assertThat(results.get(2).message()).isEqualTo("Email duplicated in batch!");
+        Mockito.verify(employeeRepository, times(1)).findExistingEmails(ArgumentMatchers.anyCollection());
+        Mockito.verify(employeeRepository, never()).findByEmail(ArgumentMatchers.anyString());
+        Assertions.assertThat(meterRegistry.get("employee.email.conflicts").counter().count()).isEqualTo(2);
+    }
+
+    @DisplayName("Given csv upload, when import employees, then persist valid rows and report rejects by line.")
+    @Test
+    public void givenCsvUpload_whenImportEmployees_thenPersistValidRowsAndReportRejects() {
+        String csv = """
+            firstName,lastName,email,cellphone
+            João Gabriel,Carvalho,27.joaogabriel@gmail.com,14 999999999
+            "Laís, Mansano",Pereira,27.joaogabriel@gmail.com,14 999999999
+            "broken,Pereira,broken@gmail.com,14 999999999
+            """;
+        EmployeeReader reader = new EmployeeReader(EmployeeFormat.CSV, new ObjectMapper(),
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        BDDMockito.given(employeeRepository.findExistingEmails(ArgumentMatchers.anyCollection()))
+            .willReturn(Collections.emptyList());
+        BDDMockito.given(employeeRepository.saveAll(ArgumentMatchers.<Employee>anyList()))
+            .willReturn(List.of(this.saved));
+
+        ImportReportResponse report = this.employeeService.importAll(reader);
+
+        Assertions.assertThat(report.processed()).isEqualTo(3);
+        Assertions.assertThat(report.created()).isEqualTo(1);
+        Assertions.assertThat(report.rejected()).isEqualTo(2);
+        Assertions.assertThat(report.rejects()).extracting("line").containsExactlyInAnyOrder(3L, 4L);
+        Mockito.verify(employeeRepository, times(1)).findExistingEmails(ArgumentMatchers.anyCollection());
+    }
+
+    @DisplayName("Given NDJSON upload with a null line, when import employees, then reject that line and keep importing.")
+    @Test
+    public void givenNdjsonUploadWithNullLine_whenImportEmployees_thenRejectLine() {
+        String ndjson = """
+            null
+            {"firstName":"João Gabriel","lastName":"Carvalho","email":"27.joaogabriel@gmail.com","cellphone":"14 999999999"}
+            """;
+        EmployeeReader reader = new EmployeeReader(EmployeeFormat.NDJSON, new ObjectMapper(),
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+        BDDMockito.given(employeeRepository.findExistingEmails(ArgumentMatchers.anyCollection()))
+            .willReturn(Collections.emptyList());
+        BDDMockito.given(employeeRepository.saveAll(ArgumentMatchers.<Employee>anyList()))
+            .willReturn(List.of(this.saved));
+
+        ImportReportResponse report = this.employeeService.importAll(reader);
+
+        Assertions.assertThat(report.created()).isEqualTo(1);
+        Assertions.assertThat(report.rejected()).isEqualTo(1);
+        Assertions.assertThat(report.rejects()).singleElement()
+            .satisfies(reject -> {
+                Assertions.assertThat(reject.line()).isEqualTo(1L);
+                Assertions.assertThat(reject.message()).startsWith("Malformed JSON");
+            });
     }
 
     @DisplayName("Given employee list, when retrieve all employees, then return list of employees")
     @Test
     public void givenEmployeeList_whenRetrieveAllEmployess_thenReturnListOfEmployeers() {
-        BDDMockito.given(employeeRepository.findAll(ArgumentMatchers.any(PageRequest.class)))
-        .willReturn(new PageImpl<>(Collections.emptyList()));
+        BDDMockito.given(employeeRepository.findAllProjectedBy(ArgumentMatchers.any(PageRequest.class)))
+        .willReturn(Collections.emptyList());
 
-        List<Employee> employees = this.employeeService.findAll(PageRequest.of(0, 10, Sort.Direction.ASC, "firstName"));
+        List<EmployeeResponse> employees = this.employeeService.findAll(PageRequest.of(0, 10, Sort.Direction.ASC, "firstName"));
         Assertions.assertThat(employees).isNotNull();
         Assertions.assertThat(employees).isEmpty();
     }
 
+    @DisplayName("Given cursor from previous page, when retrieve employees after cursor, then return next page and cursor.")
+    @Test
+    public void givenCursor_whenRetrieveEmployeesAfterCursor_thenReturnNextPageAndCursor() {
+        EmployeeCursor cursor = new EmployeeCursor("Carvalho", "Ana", UUID.randomUUID());
+        BDDMockito.given(employeeRepository.findPageAfter(ArgumentMatchers.eq("Carvalho"), ArgumentMatchers.eq("Ana"),
+                ArgumentMatchers.eq(cursor.id()), ArgumentMatchers.any(PageRequest.class)))
+            .willReturn(new SliceImpl<>(List.of(EmployeeResponse.of(this.saved)), PageRequest.ofSize(1), true));
+
+        CursorPageResponse<EmployeeResponse> page = this.employeeService.findAllAfter(cursor.encode(), 1);
+
+        Assertions.assertThat(page.content()).containsExactly(EmployeeResponse.of(this.saved));
+        Assertions.assertThat(EmployeeCursor.decode(page.next())).isEqualTo(EmployeeCursor.of(EmployeeResponse.of(this.saved)));
+    }
+
+    @DisplayName("Given oversized page, when retrieve first employees page, then clamp page size and never count.")
+    @Test
+    public void givenOversizedPage_whenRetrieveFirstEmployeesPage_thenClampPageSize() {
+        BDDMockito.given(employeeRepository.findFirstPage(ArgumentMatchers.any(PageRequest.class)))
+            .willReturn(new SliceImpl<>(Collections.emptyList()));
+
+        CursorPageResponse<EmployeeResponse> page = this.employeeService.findAllAfter("", 1_000_000);
+
+        Assertions.assertThat(page.size()).isEqualTo(100);
+        Assertions.assertThat(page.next()).isNull();
+        Mockito.verify(employeeRepository, never()).count();
+    }
+
+    @DisplayName("Given malformed cursor, when retrieve employees after cursor, must be throw InvalidRequestException")
+    @Test
+    public void givenMalformedCursor_whenRetrieveEmployeesAfterCursor_thenThrowInvalidRequestException() {
+        Throwable throwable = Assertions.catchThrowable(() -> this.employeeService.findAllAfter("not-a-cursor", 10));
+
+        Assertions.assertThat(throwable).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @DisplayName("Given employee stream, when export all employees, then consume and detach each employee.")
+    @Test
+    public void givenEmployeeStream_whenExportAllEmployees_thenConsumeAndDetachEachEmployee() {
+        BDDMockito.given(employeeRepository.streamAll()).willReturn(Stream.of(this.saved, this.employee));
+        List<Employee> exported = new ArrayList<>();
+
+        this.employeeService.exportAll(exported::add);
+
+        Assertions.assertThat(exported).containsExactly(this.saved, this.employee);
+        Mockito.verify(entityManager, times(1)).detach(this.saved);
+        Mockito.verify(entityManager, times(1)).detach(this.employee);
+    }
+
+    @DisplayName("Given name prefix, when search employees, then query normalized prefix range.")
+    @Test
+    public void givenNamePrefix_whenSearchEmployees_thenQueryNormalizedPrefixRange() {
+        BDDMockito.given(employeeRepository.findByLastNameAndFirstNamePrefix(ArgumentMatchers.eq("carvalho"),
+                ArgumentMatchers.eq("joao"), ArgumentMatchers.eq("joap"), ArgumentMatchers.eq("joao%"),
+                ArgumentMatchers.any(PageRequest.class)))
+            .willReturn(new SliceImpl<>(List.of(EmployeeResponse.of(this.saved))));
+
+        List<EmployeeResponse> employees = this.employeeService.search("JOÃO", " Carvalho ", true, PageRequest.of(0, 10));
+
+        Assertions.assertThat(employees).containsExactly(EmployeeResponse.of(this.saved));
+    }
+
     @DisplayName("Given existing id from employeer, when retrieve employeer by id, then return employee object persisted from database.")
     @Test
     public void givenExistingIdFromEmployeer_whenRetrieveEmployeerById_thenReturnEmployeeObject() {
-        BDDMockito.given(employeeRepository.findById(ArgumentMatchers.any(UUID.class)))
-            .willReturn(Optional.of(this.saved));
+        BDDMockito.given(employeeRepository.findProjectedById(ArgumentMatchers.any(UUID.class)))
+            .willReturn(Optional.of(EmployeeResponse.of(this.saved)));
+
+        EmployeeResponse employee = this.employeeService.findById(id);
+        Assertions.assertThat(employee.id()).isEqualTo(id);
+        Assertions.assertThat(employee).isEqualTo(EmployeeResponse.of(this.saved));
+    }
+
+    @DisplayName("Given id list, when lookup employees, then query only uncached ids once and report missing ids in request order.")
+    @Test
+    public void givenIdList_whenLookupEmployees_thenQueryUncachedIdsAndReportMissing() {
+        UUID cachedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        EmployeeResponse cached = new EmployeeResponse(cachedId, "Lais", "Carvalho", "lais@gmail.com", "14 988888888", 0);
+        BDDMockito.given(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE)).willReturn(cache);
+        BDDMockito.given(cache.get(ArgumentMatchers.any(), ArgumentMatchers.eq(EmployeeResponse.class))).willReturn(null);
+        BDDMockito.given(cache.get(cachedId, EmployeeResponse.class)).willReturn(cached);
+        BDDMockito.given(employeeRepository.findProjectedByIdIn(List.of(id, missingId)))
+            .willReturn(List.of(EmployeeResponse.of(saved)));
+
+        EmployeeLookupResponse response = this.employeeService.findAllById(List.of(id, cachedId, missingId, id));
 
-        Employee employee = this.employeeService.findById(id);
-        Assertions.assertThat(employee.getId()).isEqualTo(id);
-        Assertions.assertThat(employee).isEqualTo(this.saved);
+        Assertions.assertThat(response.found()).containsExactly(EmployeeResponse.of(saved), cached);
+        Assertions.assertThat(response.missing()).containsExactly(missingId);
+        Mockito.verify(employeeRepository, times(1)).findProjectedByIdIn(ArgumentMatchers.anyCollection());
+        Mockito.verify(cache, times(1)).putIfAbsent(id, EmployeeResponse.of(saved));
     }
 
     @DisplayName("Given invalid id from employee, when retrieve employeer by id, must be throw ResourceNotFoundException")
     @Test
     public void givenInvalidIdFromEmployeer_whenRetrieveEmployeerById_thenThrowResourceNotFoundExpcetion() {
-        BDDMockito.given(employeeRepository.findById(ArgumentMatchers.any(UUID.class)))
+        BDDMockito.given(employeeRepository.findProjectedById(ArgumentMatchers.any(UUID.class)))
             .willThrow(new ResourceNotFoundException("Employeer not found into database."));
 
         Throwable throwable = Assertions.catchThrowable(() -> { 
@@ -138,29 +411,115 @@ public class EmployeeServiceTest {
         Assertions.assertThat(updated).isEqualTo(saved);
     }
 
-    @DisplayName("Given existing id from employeer, when delete delete employee, then nothing")
+    @DisplayName("Given email taken by another employee, when update employee, then throw ResourceAlreadyUsedException.")
+    @Test
+    public void givenTakenEmail_whenUpdateEmployee_thenThrowResourceAlreadyUsedException() {
+        BDDMockito.given(employeeRepository.saveAndFlush(ArgumentMatchers.any(Employee.class)))
+            .willThrow(emailConstraintViolation());
+        employee.setId(UUID.randomUUID());
+
+        Throwable throwable = Assertions.catchThrowable(() -> this.employeeService.update(employee));
+
+        Assertions.assertThat(throwable).isInstanceOf(ResourceAlreadyUsedException.class).hasMessage("Email unavailable!");
+        Mockito.verifyNoInteractions(eventPublisher);
+    }
+
+    @DisplayName("Given email taken concurrently after the check, when patch employee, then throw ResourceAlreadyUsedException.")
+    @Test
+    public void givenEmailTakenAfterCheck_whenPatchEmployee_thenThrowResourceAlreadyUsedException() {
+        BDDMockito.given(employeeRepository.findById(id)).willReturn(Optional.of(this.saved));
+        BDDMockito.given(employeeRepository.findByEmail("new.joaogabriel@gmail.com")).willReturn(Optional.empty());
+        BDDMockito.given(employeeRepository.saveAndFlush(this.saved)).willThrow(emailConstraintViolation());
+
+        Throwable throwable = Assertions.catchThrowable(() ->
+            this.employeeService.patch(id, new EmployeePatchRequest(null, null, "new.joaogabriel@gmail.com", null, 0L)));
+
+        Assertions.assertThat(throwable).isInstanceOf(ResourceAlreadyUsedException.class).hasMessage("Email unavailable!");
+        Mockito.verifyNoInteractions(eventPublisher);
+    }
+
+    private static DataIntegrityViolationException emailConstraintViolation() {
+        return new DataIntegrityViolationException("duplicate key", new ConstraintViolationException(
+            "duplicate key", new SQLException("duplicate key", "23505"), Employee.EMAIL_CONSTRAINT));
+    }
+
+    @DisplayName("Given partial employee, when patch employee, then change only supplied fields without forcing a flush.")
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenChangeOnlySuppliedFields() {
+        BDDMockito.given(employeeRepository.findById(id)).willReturn(Optional.of(this.saved));
+
+        Employee patched = this.employeeService.patch(id, new EmployeePatchRequest(null, null, null, "14 988888888", 0L));
+
+        Assertions.assertThat(patched.getCellphone()).isEqualTo("14 988888888");
+        Assertions.assertThat(patched.getLastName()).isEqualTo("Carvalho");
+        Mockito.verify(employeeRepository, never()).findByEmail(ArgumentMatchers.anyString());
+        Mockito.verify(employeeRepository, never()).saveAndFlush(ArgumentMatchers.any(Employee.class));
+    }
+
+    @DisplayName("Given stale version, when patch employee, must be throw ResourceConflictException")
+    @Test
+    public void givenStaleVersion_whenPatchEmployee_thenThrowResourceConflictException() {
+        this.saved.setVersion(3L);
+        BDDMockito.given(employeeRepository.findById(id)).willReturn(Optional.of(this.saved));
+
+        Throwable throwable = Assertions.catchThrowable(() ->
+            this.employeeService.patch(id, new EmployeePatchRequest(null, null, null, "14 988888888", 2L)));
+
+        Assertions.assertThat(throwable).isInstanceOf(ResourceConflictException.class);
+        Assertions.assertThat(this.saved.getCellphone()).isEqualTo("14 999999999");
+    }
+
+    @DisplayName("Given existing id from employeer, when delete delete employee, then run a single delete statement")
     @Test
     public void givenExistingId_whenDeleteEmployee_thenNothing() {
-        BDDMockito.given(this.employeeRepository.findById(ArgumentMatchers.any(UUID.class)))
-            .willReturn(Optional.of(this.saved));
-        BDDMockito.willDoNothing().given(employeeRepository).delete(this.saved);
+        BDDMockito.given(this.employeeRepository.deleteEmployeeById(id)).willReturn(1);
         this.employeeService.delete(id);
-        Mockito.verify(employeeRepository, times(1)).delete(saved);;
+        Mockito.verify(employeeRepository, times(1)).deleteEmployeeById(id);
+        Mockito.verify(employeeRepository, never()).findById(ArgumentMatchers.any(UUID.class));
     }
 
 
     @DisplayName("Given invalid id from employeer, when delete delete employee, must be throw ResourceNotFoundException")
     @Test
     public void givenInvalidId_whenDeleteEmployee_thenThrowResourceNotFoundException() {
-        BDDMockito.given(employeeRepository.findById(ArgumentMatchers.any(UUID.class)))
-            .willThrow(new ResourceNotFoundException("Employee not found."));
+        BDDMockito.given(employeeRepository.deleteEmployeeById(id)).willReturn(0);
         
         Throwable throwable = Assertions.catchThrowable(() -> {
             this.employeeService.delete(id);
         });
         Assertions.assertThat(throwable).isInstanceOf(ResourceNotFoundException.class);
-        Assertions.assertThat(throwable.getMessage()).isEqualTo("Employee not found.");
+        Assertions.assertThat(throwable.getMessage()).isEqualTo("Employee not found into database. Id: " + id);
+        Assertions.assertThat(meterRegistry.get("employee.not.found").counter().count()).isEqualTo(1);
         Mockito.verify(employeeRepository, never()).delete(ArgumentMatchers.any(Employee.class));
         
     }
+
+    @DisplayName("Given id list, when delete all employees, then run one delete statement and evict cached ids")
+    @Test
+    public void givenIdList_whenDeleteAllEmployees_thenDeleteInOneStatementAndEvictCache() {
+        UUID other = UUID.randomUUID();
+        BDDMockito.given(employeeRepository.deleteExistingByIdIn(ArgumentMatchers.anyCollection())).willReturn(List.of(id, other));
+        BDDMockito.given(cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE)).willReturn(cache);
+
+        BatchDeleteResponse response = this.employeeService.deleteAll(List.of(id, other, id));
+
+        Assertions.assertThat(response.requested()).isEqualTo(3);
+        Assertions.assertThat(response.deleted()).isEqualTo(2);
+        Mockito.verify(employeeRepository, times(1)).deleteExistingByIdIn(ArgumentMatchers.anyCollection());
+        Mockito.verify(cache, times(1)).evict(id);
+        Mockito.verify(cache, times(1)).evict(other);
+    }
+
+    @DisplayName("Given existing and missing ids, when delete all employees, then publish deleted events only for removed ids")
+    @Test
+    public void givenExistingAndMissingIds_whenDeleteAllEmployees_thenPublishOnlyRemovedIds() {
+        UUID missing = UUID.randomUUID();
+        BDDMockito.given(employeeRepository.deleteExistingByIdIn(ArgumentMatchers.anyCollection())).willReturn(List.of(id));
+
+        BatchDeleteResponse response = this.employeeService.deleteAll(List.of(id, missing));
+
+        Assertions.assertThat(response.deleted()).isEqualTo(1);
+        Mockito.verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(id));
+        Mockito.verify(eventPublisher, never()).publishEvent(EmployeeChangedEvent.deleted(missing));
+    }
 }
@@ -0,0 +1,165 @@
+package br.com.joaogabriel.testing.service;
+
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.joaogabriel.testing.config.CacheConfig;
+import br.com.joaogabriel.testing.email.EmailIndex;
+import br.com.joaogabriel.testing.event.EmployeeChangeType;
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.exception.ResourceAlreadyUsedException;
+import br.com.joaogabriel.testing.exception.ResourceConflictException;
+import br.com.joaogabriel.testing.exception.ResourceNotFoundException;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeResponse;
+import br.com.joaogabriel.testing.repository.ReactiveEmployeeRepository;
+import br.com.joaogabriel.testing.service.impl.ReactiveEmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEmployeeServiceTest {
+
+    @Mock
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private org.hibernate.Cache secondLevelCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailIndex emailIndex;
+
+    private ReactiveEmployeeServiceImpl employeeService;
+
+    private Employee employee;
+    private UUID id;
+
+    @BeforeEach
+    public void setup() {
+        BDDMockito.given(this.entityManagerFactory.unwrap(SessionFactory.class)).willReturn(this.sessionFactory);
+        BDDMockito.given(this.sessionFactory.getCache()).willReturn(this.secondLevelCache);
+        Mockito.lenient().when(this.transactionalOperator.transactional(ArgumentMatchers.<Mono<Object>>any()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.lenient().when(this.emailIndex.mightContain(ArgumentMatchers.any())).thenReturn(true);
+        this.employeeService = new ReactiveEmployeeServiceImpl(this.employeeRepository, this.transactionalOperator,
+            this.cacheManager, this.entityManagerFactory, this.eventPublisher, this.emailIndex, new SimpleMeterRegistry());
+
+        this.id = UUID.randomUUID();
+        this.employee = new Employee.Builder()
+            .firstName("João Gabriel")
+            .lastName("Carvalho")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+    }
+
+    @DisplayName("Given employee object, when save employee reactively, then insert it with a time-ordered id and publish the change.")
+    @Test
+    public void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeInserted() {
+        BDDMockito.given(this.employeeRepository.existsByEmail(this.employee.getEmail(), null)).willReturn(Mono.just(false));
+        BDDMockito.given(this.employeeRepository.insert(this.employee)).willReturn(Mono.just(1L));
+        BDDMockito.given(this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE)).willReturn(this.cache);
+
+        StepVerifier.create(this.employeeService.save(this.employee))
+            .assertNext(saved -> {
+                Assertions.assertThat(saved.id()).isNotNull();
+                Assertions.assertThat(saved.id().version()).isEqualTo(7);
+                Assertions.assertThat(saved.version()).isZero();
+                Assertions.assertThat(saved.email()).isEqualTo(this.employee.getEmail());
+            })
+            .verifyComplete();
+
+        Mockito.verify(this.cache).evict(this.employee.getId());
+        Mockito.verify(this.secondLevelCache).evictEntityData(Employee.class, this.employee.getId());
+        Mockito.verify(this.eventPublisher).publishEvent(ArgumentMatchers.<EmployeeChangedEvent>argThat(
+            event -> event.type() == EmployeeChangeType.CREATED));
+    }
+
+    @DisplayName("Given employee with unavailable email, when save employee reactively, then error with ResourceAlreadyUsedException.")
+    @Test
+    public void givenUnavailableEmail_whenSaveEmployee_thenErrorWithResourceAlreadyUsed() {
+        BDDMockito.given(this.employeeRepository.existsByEmail(this.employee.getEmail(), null)).willReturn(Mono.just(true));
+
+        StepVerifier.create(this.employeeService.save(this.employee))
+            .expectError(ResourceAlreadyUsedException.class)
+            .verify();
+
+        Mockito.verify(this.employeeRepository, Mockito.never()).insert(ArgumentMatchers.any());
+        Mockito.verifyNoInteractions(this.eventPublisher);
+    }
+
+    @DisplayName("Given stale version, when update employee reactively, then error with ResourceConflictException.")
+    @Test
+    public void givenStaleVersion_whenUpdateEmployee_thenErrorWithResourceConflict() {
+        this.employee.setId(this.id);
+        BDDMockito.given(this.employeeRepository.existsByEmail(this.employee.getEmail(), this.id)).willReturn(Mono.just(false));
+        BDDMockito.given(this.employeeRepository.update(this.employee)).willReturn(Mono.just(0L));
+        BDDMockito.given(this.employeeRepository.findById(this.id)).willReturn(Mono.just(new EmployeeResponse(this.id,
+            "João Gabriel", "Carvalho", "27.joaogabriel@gmail.com", "14 999999999", 3L)));
+
+        StepVerifier.create(this.employeeService.update(this.employee))
+            .expectError(ResourceConflictException.class)
+            .verify();
+
+        Mockito.verifyNoInteractions(this.eventPublisher);
+    }
+
+    @DisplayName("Given nonexistent id, when find employee by id reactively, then error with ResourceNotFoundException.")
+    @Test
+    public void givenNonexistentId_whenFindById_thenErrorWithResourceNotFound() {
+        BDDMockito.given(this.employeeRepository.findById(this.id)).willReturn(Mono.empty());
+
+        StepVerifier.create(this.employeeService.findById(this.id))
+            .expectError(ResourceNotFoundException.class)
+            .verify();
+    }
+
+    @DisplayName("Given employee id, when delete employee reactively, then evict caches and publish the change.")
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenEvictAndPublish() {
+        BDDMockito.given(this.employeeRepository.deleteById(this.id)).willReturn(Mono.just(1L));
+        BDDMockito.given(this.cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE)).willReturn(this.cache);
+
+        StepVerifier.create(this.employeeService.delete(this.id))
+            .verifyComplete();
+
+        Mockito.verify(this.cache).evict(this.id);
+        Mockito.verify(this.eventPublisher).publishEvent(ArgumentMatchers.<EmployeeChangedEvent>argThat(
+            event -> event.type() == EmployeeChangeType.DELETED));
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.joaogabriel.testing.suggest;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+
+public class PrefixIndexTest {
+
+    private PrefixIndex prefixIndex;
+    private EmployeeSuggestionResponse joao;
+    private EmployeeSuggestionResponse maria;
+
+    @BeforeEach
+    public void setup() {
+        this.prefixIndex = new PrefixIndex();
+        this.joao = new EmployeeSuggestionResponse(UUID.randomUUID(), "João Gabriel", "Carvalho", "27.joaogabriel@gmail.com");
+        this.maria = new EmployeeSuggestionResponse(UUID.randomUUID(), "Maria", "Carvalhosa", "maria@company.com");
+        this.prefixIndex.put(this.joao);
+        this.prefixIndex.put(this.maria);
+    }
+
+    @DisplayName("Given indexed employees, when suggest by prefix, then match first name, last name and email ignoring accents and case.")
+    @Test
+    public void givenIndexedEmployees_whenSuggestByPrefix_thenMatchAnyField() {
+        Assertions.assertThat(this.prefixIndex.suggest("JOA", 10)).containsExactly(this.joao);
+        Assertions.assertThat(this.prefixIndex.suggest("carv", 10)).containsExactly(this.joao, this.maria);
+        Assertions.assertThat(this.prefixIndex.suggest("company", 10)).containsExactly(this.maria);
+        Assertions.assertThat(this.prefixIndex.suggest("carv", 1)).hasSize(1);
+        Assertions.assertThat(this.prefixIndex.suggest("silva", 10)).isEmpty();
+    }
+
+    @DisplayName("Given query with several terms, when suggest, then every term must prefix some token of the employee.")
+    @Test
+    public void givenQueryWithSeveralTerms_whenSuggest_thenEveryTermMustMatch() {
+        Assertions.assertThat(this.prefixIndex.suggest("ma carv", 10)).containsExactly(this.maria);
+        Assertions.assertThat(this.prefixIndex.suggest("joão gab carvalho", 10)).containsExactly(this.joao);
+        Assertions.assertThat(this.prefixIndex.suggest("maria gab", 10)).isEmpty();
+    }
+
+    @DisplayName("Given thousands of employees sharing a token, when suggest with a rarer term, then find the match.")
+    @Test
+    public void givenThousandsSharingToken_whenSuggestWithRarerTerm_thenFindMatch() {
+        for (int i = 0; i < 3000; i++) {
+            this.prefixIndex.put(new EmployeeSuggestionResponse(new UUID(0, i), "Employee", "Number" + i, "employee" + i + "@gmail.com"));
+        }
+        // Sorts after every other id, so a scan driven by "gmail" meets it last.
+        EmployeeSuggestionResponse joana = new EmployeeSuggestionResponse(new UUID(-1, -1), "Joana", "Lima", "joana.lima@gmail.com");
+        this.prefixIndex.put(joana);
+
+        Assertions.assertThat(this.prefixIndex.suggest("gmail jo", 10)).containsExactlyInAnyOrder(this.joao, joana);
+        Assertions.assertThat(this.prefixIndex.suggest("gmail lima", 10)).containsExactly(joana);
+        Assertions.assertThat(this.prefixIndex.suggest("gmail number2999", 10)).hasSize(1);
+    }
+
+    @DisplayName("Given updated and removed employees, when suggest, then old tokens no longer match.")
+    @Test
+    public void givenUpdatedAndRemovedEmployees_whenSuggest_thenOldTokensNoLongerMatch() {
+        this.prefixIndex.put(new EmployeeSuggestionResponse(this.joao.id(), "João Gabriel", "Silva", "27.joaogabriel@gmail.com"));
+        this.prefixIndex.remove(this.maria.id());
+
+        Assertions.assertThat(this.prefixIndex.suggest("carv", 10)).isEmpty();
+        Assertions.assertThat(this.prefixIndex.suggest("silv", 10)).extracting(EmployeeSuggestionResponse::lastName)
+            .containsExactly("Silva");
+        Assertions.assertThat(this.prefixIndex.size()).isEqualTo(1);
+    }
+
+    @DisplayName("Given id changed during rebuild, when load stale row, then it does not overwrite the change.")
+    @Test
+    public void givenIdChangedDuringRebuild_whenLoadStaleRow_thenChangeIsKept() {
+        this.prefixIndex.remove(this.maria.id());
+
+        this.prefixIndex.putUnless(this.maria, Set.of(this.maria.id()));
+
+        Assertions.assertThat(this.prefixIndex.suggest("maria", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.joaogabriel.testing.suggest;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.joaogabriel.testing.event.EmployeeChangedEvent;
+import br.com.joaogabriel.testing.model.Employee;
+import br.com.joaogabriel.testing.model.response.EmployeeSuggestionResponse;
+import br.com.joaogabriel.testing.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestionIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private SuggestionIndex suggestionIndex;
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.suggestionIndex = new SuggestionIndex(this.employeeRepository, this.transactionManager, this.meterRegistry);
+        this.employee = new Employee.Builder().id(UUID.randomUUID())
+            .firstName("João Gabriel")
+            .lastName("Carvalho")
+            .email("27.joaogabriel@gmail.com")
+            .cellphone("14 999999999")
+            .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.suggestionIndex.close();
+    }
+
+    @DisplayName("Given index not built yet, when suggest, then return no suggestions.")
+    @Test
+    public void givenIndexNotBuilt_whenSuggest_thenReturnEmpty() {
+        Assertions.assertThat(this.suggestionIndex.suggest("carv", 10)).isEmpty();
+    }
+
+    @DisplayName("Given index rebuilt from database, when suggest, then return stored employees.")
+    @Test
+    public void givenIndexRebuilt_whenSuggest_thenReturnStoredEmployees() {
+        BDDMockito.given(this.employeeRepository.streamAllSuggestions())
+            .willReturn(Stream.of(EmployeeSuggestionResponse.of(this.employee)));
+
+        this.suggestionIndex.rebuild();
+
+        Assertions.assertThat(this.suggestionIndex.suggest("carv", 10)).containsExactly(EmployeeSuggestionResponse.of(this.employee));
+        Assertions.assertThat(this.meterRegistry.get("employee.suggestion.index.entries").gauge().value()).isEqualTo(1);
+        Assertions.assertThat(this.meterRegistry.get("employee.suggestion.index.lookup").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("Given employee changes after rebuild, when suggest, then index follows them incrementally.")
+    @Test
+    public void givenEmployeeChangesAfterRebuild_whenSuggest_thenIndexFollowsThem() {
+        BDDMockito.given(this.employeeRepository.streamAllSuggestions()).willReturn(Stream.empty());
+        this.suggestionIndex.rebuild();
+
+        this.suggestionIndex.onEmployeeChanged(EmployeeChangedEvent.created(this.employee));
+        Assertions.assertThat(this.suggestionIndex.suggest("joao", 10)).hasSize(1);
+
+        this.employee.setLastName("Silva");
+        this.suggestionIndex.onEmployeeChanged(EmployeeChangedEvent.updated(this.employee));
+        Assertions.assertThat(this.suggestionIndex.suggest("carv", 10)).isEmpty();
+        Assertions.assertThat(this.suggestionIndex.suggest("silv", 10)).hasSize(1);
+
+        this.suggestionIndex.onEmployeeChanged(EmployeeChangedEvent.deleted(this.employee.getId()));
+        Assertions.assertThat(this.suggestionIndex.suggest("joao", 10)).isEmpty();
+    }
+}